@@ -1,14 +1,21 @@
 package org.example.graph;
 
+import org.example.graph.common.ComponentResult;
 import org.example.graph.common.Graph;
 import org.example.graph.common.MetricsImpl;
+import org.example.graph.scc.ConnectedComponents;
 import org.example.graph.scc.TarjanSCC;
 import org.example.graph.topo.KahnTopologicalSort;
 import org.example.graph.topo.DFSTopologicalSort;
+import org.example.graph.dagsp.CriticalPathMethod;
 import org.example.graph.dagsp.DAGShortestPath;
+import org.example.graph.util.AnalysisCache;
 import org.example.graph.util.GraphLoader;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -17,7 +24,18 @@ import java.util.List;
  */
 public class Main {
 
+    /**
+     * Runs every dataset in the data directory.
+     * With {@code --cache <dir>}, SCC, topological order and critical path
+     * results are read from (or written to) an on-disk analysis cache.
+     * @param args optional {@code --cache <dir>}
+     */
     public static void main(String[] args) {
+        AnalysisCache cache = null;
+        if (args.length >= 2 && args[0].equals("--cache")) {
+            cache = new AnalysisCache(Paths.get(args[1]), new MetricsImpl());
+        }
+
         System.out.println("=".repeat(80));
         System.out.println("GRAPH ALGORITHMS - ASSIGNMENT 4");
         System.out.println("Smart City / Smart Campus Scheduling");
@@ -37,7 +55,7 @@ public class Main {
         }
 
         for (File file : dataFiles) {
-            processDataset(file.getPath());
+            processDataset(file.getPath(), cache);
             System.out.println();
         }
 
@@ -46,7 +64,7 @@ public class Main {
         System.out.println("=".repeat(80));
     }
 
-    private static void processDataset(String filepath) {
+    private static void processDataset(String filepath, AnalysisCache cache) {
         System.out.println("-".repeat(80));
         System.out.println("Dataset: " + new File(filepath).getName());
         System.out.println("-".repeat(80));
@@ -65,6 +83,17 @@ public class Main {
             System.out.println("  Source Node: " + source);
             System.out.println();
 
+            // SCCs, topological order and DAG paths need edge directions
+            if (!graph.isDirected()) {
+                runConnectedComponents(graph);
+                return;
+            }
+
+            if (cache != null) {
+                runCachedAnalysis(cache, graph);
+                return;
+            }
+
             // Run SCC analysis
             runSCCAnalysis(graph);
 
@@ -80,6 +109,23 @@ public class Main {
         }
     }
 
+    private static void runCachedAnalysis(AnalysisCache cache, Graph graph) throws IOException {
+        System.out.println("### Cached Analysis ###");
+
+        AnalysisCache.Analysis analysis = cache.getOrCompute(graph);
+        System.out.println("  Source: " + (analysis.fromCache ? "cache hit" : "computed and stored"));
+        System.out.println("  Number of SCCs: " + analysis.componentCount);
+        System.out.println("  Condensation Edges: " + analysis.condensationEdges.length / 3);
+        if (analysis.isDag()) {
+            System.out.println("  Topological Order: " + Arrays.toString(analysis.topologicalOrder));
+            System.out.println("  Critical Path: " + Arrays.toString(analysis.criticalPath));
+            System.out.println("  Critical Path Length: " + analysis.criticalPathLength);
+        } else {
+            System.out.println("  Result: Graph contains a cycle (not a DAG)");
+        }
+        System.out.println();
+    }
+
     private static void runSCCAnalysis(Graph graph) {
         System.out.println("### Strongly Connected Components (Tarjan's Algorithm) ###");
 
@@ -107,6 +153,25 @@ public class Main {
         System.out.println();
     }
 
+    private static void runConnectedComponents(Graph graph) {
+        System.out.println("### Connected Components (Parallel Union-Find) ###");
+
+        MetricsImpl metrics = new MetricsImpl();
+        ComponentResult components = new ConnectedComponents(graph, metrics).findComponents();
+
+        System.out.println("Results:");
+        System.out.println("  Number of Components: " + components.getComponentCount());
+        System.out.println("  Component Details:");
+        for (int c = 0; c < components.getComponentCount(); c++) {
+            System.out.println("    Component " + c + " (size " + components.size(c) + "): "
+                    + Arrays.toString(components.getMembers(c)));
+        }
+
+        System.out.println("Metrics:");
+        System.out.println("  " + metrics.getSummary().replace("\n", "\n  ").trim());
+        System.out.println();
+    }
+
     private static void runTopologicalSort(Graph graph) {
         System.out.println("### Topological Sort ###");
 
@@ -136,6 +201,7 @@ public class Main {
             System.out.println("    " + dfsMetrics.getSummary().replace("\n", "\n    ").trim());
         } else {
             System.out.println("  Result: Graph contains a cycle (not a DAG)");
+            System.out.println("  Cycle: " + dfsSort.getCycle());
         }
         System.out.println();
     }
@@ -194,6 +260,18 @@ public class Main {
             System.out.println("  Length: " + critical.length);
         }
 
+        // Full CPM schedule
+        System.out.println("CPM Schedule (earliest / latest start, slack):");
+        CriticalPathMethod.Schedule schedule = new CriticalPathMethod(graph, new MetricsImpl()).compute();
+        if (schedule != null) {
+            for (int i = 0; i < graph.getVertexCount(); i++) {
+                System.out.println("    Task " + i + ": ES=" + schedule.earliestStart[i] +
+                        ", LS=" + schedule.latestStart[i] + ", slack=" + schedule.slack[i] +
+                        (schedule.isCritical(i) ? " (critical)" : ""));
+            }
+            System.out.println("  Critical edges: " + schedule.getCriticalEdgeCount());
+        }
+
         System.out.println();
     }
 }
\ No newline at end of file
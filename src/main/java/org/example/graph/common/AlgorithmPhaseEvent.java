@@ -0,0 +1,100 @@
+package org.example.graph.common;
+
+import jdk.jfr.*;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Java Flight Recorder event covering one phase of an algorithm run.
+ * Usage:
+ * <pre>
+ *   AlgorithmPhaseEvent event = AlgorithmPhaseEvent.begin("Kahn", "in-degree", n);
+ *   ...
+ *   event.end(edgesScanned);
+ * </pre>
+ * When JFR is not recording this event, begin() returns a shared no-op
+ * instance without allocating and end() returns immediately, so the
+ * instrumentation can stay in production code.
+ */
+@Name("org.example.graph.AlgorithmPhase")
+@Label("Algorithm Phase")
+@Category({"Graph Algorithms"})
+@Description("Duration, size and allocation of one algorithm phase")
+@StackTrace(false)
+public class AlgorithmPhaseEvent extends Event {
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+    private static final EventType TYPE = EventType.getEventType(AlgorithmPhaseEvent.class);
+    private static final AlgorithmPhaseEvent DISABLED = new AlgorithmPhaseEvent();
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Vertices")
+    int vertices;
+
+    @Label("Work Items")
+    @Description("Edges scanned, relaxations or other phase-specific unit of work")
+    long workItems;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+
+    private transient long allocationStart;
+
+    /**
+     * Starts timing a phase.
+     * @param algorithm algorithm name
+     * @param phase phase name
+     * @param vertices number of vertices the phase works on
+     * @return event to pass to {@link #end(long)}, a shared no-op instance if not recording
+     */
+    public static AlgorithmPhaseEvent begin(String algorithm, String phase, int vertices) {
+        if (!TYPE.isEnabled()) {
+            return DISABLED;
+        }
+        AlgorithmPhaseEvent event = new AlgorithmPhaseEvent();
+        event.algorithm = algorithm;
+        event.phase = phase;
+        event.vertices = vertices;
+        event.allocationStart = threadAllocatedBytes();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Finishes the phase and commits the event if it is being recorded.
+     * @param workItems amount of work done in the phase
+     */
+    public void end(long workItems) {
+        // The shared instance must never be committed, even if recording started meanwhile
+        if (this != DISABLED && isEnabled()) {
+            end();
+            if (shouldCommit()) {
+                this.workItems = workItems;
+                long now = threadAllocatedBytes();
+                this.allocatedBytes = allocationStart < 0 || now < 0 ? -1 : now - allocationStart;
+                commit();
+            }
+        }
+    }
+
+    /**
+     * Bytes allocated so far by the current thread.
+     * @return allocated bytes, or -1 if the JVM does not support it
+     */
+    static long threadAllocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return (com.sun.management.ThreadMXBean) bean;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.graph.common;
+
+import java.util.Arrays;
+
+/**
+ * Reusable scratch memory for repeated algorithm runs.
+ *
+ * A workspace holds a few int arrays, an epoch-stamped visited set and a
+ * pool of edge cursors. Arrays only grow, so once a workspace has seen the
+ * largest graph of a query loop, later runs allocate nothing. Clearing the
+ * visited set is O(1): marks are stamped with the current epoch, and
+ * {@link #newEpoch()} just advances it.
+ *
+ * Int array slots are shared by the algorithms that accept a workspace:
+ * KahnTopologicalSort uses slot 0, DAGShortestPath slot 1 (plus Kahn's)
+ * and slots 0-3 for point-to-point queries, TarjanSCC slots 0-3. A
+ * workspace is not thread-safe; use {@link #forCurrentThread()} to get one
+ * per thread.
+ */
+public class AlgorithmWorkspace {
+    public static final int INT_SLOTS = 4;
+
+    private static final ThreadLocal<AlgorithmWorkspace> POOL = ThreadLocal.withInitial(AlgorithmWorkspace::new);
+
+    private int capacity;
+    private final int[][] ints = new int[INT_SLOTS][];
+    private int[] stamps;
+    private int epoch;
+
+    private GraphView cursorGraph;
+    private EdgeCursor[] cursors = new EdgeCursor[0];
+
+    /**
+     * Constructs an empty workspace; arrays are sized on first use.
+     */
+    public AlgorithmWorkspace() {
+        for (int i = 0; i < INT_SLOTS; i++) {
+            ints[i] = new int[0];
+        }
+        stamps = new int[0];
+        epoch = 1;
+    }
+
+    /**
+     * Gets the workspace pooled for the calling thread.
+     * @return thread-local workspace
+     */
+    public static AlgorithmWorkspace forCurrentThread() {
+        return POOL.get();
+    }
+
+    /**
+     * Grows the arrays to hold at least n vertices.
+     * @param n number of vertices
+     */
+    public void ensureCapacity(int n) {
+        if (n <= capacity) {
+            return;
+        }
+        int grown = Math.max(n, capacity + (capacity >> 1));
+        for (int i = 0; i < INT_SLOTS; i++) {
+            ints[i] = new int[grown];
+        }
+        stamps = new int[grown];
+        epoch = 1;
+        capacity = grown;
+    }
+
+    /**
+     * Gets the current capacity in vertices.
+     * @return capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gets a scratch int array. Contents are left over from earlier runs.
+     * @param slot slot index in [0, INT_SLOTS)
+     * @return array of length at least the capacity
+     */
+    public int[] intArray(int slot) {
+        return ints[slot];
+    }
+
+    /**
+     * Clears the visited set in O(1).
+     */
+    public void newEpoch() {
+        if (++epoch == Integer.MAX_VALUE) {
+            // Wrap around: old stamps could collide with new epochs
+            Arrays.fill(stamps, 0);
+            epoch = 1;
+        }
+    }
+
+    /**
+     * Checks whether a vertex was marked in the current epoch.
+     * @param v vertex
+     * @return true if marked
+     */
+    public boolean isMarked(int v) {
+        return stamps[v] == epoch;
+    }
+
+    /**
+     * Marks a vertex in the current epoch.
+     * @param v vertex
+     */
+    public void mark(int v) {
+        stamps[v] = epoch;
+    }
+
+    /**
+     * Gets a pooled cursor for a graph, one per recursion depth.
+     * The pool is rebuilt when a different graph is passed.
+     * @param graph graph to walk
+     * @param depth cursor index
+     * @return reusable cursor
+     */
+    public EdgeCursor cursor(GraphView graph, int depth) {
+        if (graph != cursorGraph) {
+            cursorGraph = graph;
+            Arrays.fill(cursors, null);
+        }
+        if (depth >= cursors.length) {
+            cursors = Arrays.copyOf(cursors, Math.max(depth + 1, cursors.length * 2));
+        }
+        EdgeCursor cursor = cursors[depth];
+        if (cursor == null) {
+            cursor = graph.newCursor();
+            cursors[depth] = cursor;
+        }
+        return cursor;
+    }
+}
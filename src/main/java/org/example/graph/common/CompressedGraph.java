@@ -0,0 +1,245 @@
+package org.example.graph.common;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, compressed adjacency representation for large sparse graphs.
+ *
+ * Each vertex's targets are sorted and stored as varint-encoded gaps: the
+ * first target as a zigzag-encoded difference from the vertex itself, every
+ * following target as the (non-negative) difference from the previous one.
+ * Weights are stored separately, bit-packed relative to the minimum weight,
+ * so a 1..10 weight range costs 4 bits per edge.
+ *
+ * Edges are decoded sequentially by an {@link EdgeCursor}; random access to
+ * the i-th edge of a vertex is not supported.
+ * Space: about 8 bytes per vertex plus 1-3 bytes per edge for typical inputs
+ */
+public class CompressedGraph implements GraphView {
+    private final int n;
+    private final boolean directed;
+    private final String weightModel;
+
+    private final int[] byteOffsets;   // start of each vertex's target stream in data
+    private final int[] edgeOffsets;   // index of each vertex's first edge (for weights)
+    private final byte[] data;         // varint target gaps
+    private final long[] weightBits;   // bit-packed (weight - minWeight)
+    private final int weightWidth;     // bits per weight, 0 if all weights equal
+    private final int minWeight;
+
+    private CompressedGraph(int n, boolean directed, String weightModel, int[] byteOffsets, int[] edgeOffsets,
+                            byte[] data, long[] weightBits, int weightWidth, int minWeight) {
+        this.n = n;
+        this.directed = directed;
+        this.weightModel = weightModel;
+        this.byteOffsets = byteOffsets;
+        this.edgeOffsets = edgeOffsets;
+        this.data = data;
+        this.weightBits = weightBits;
+        this.weightWidth = weightWidth;
+        this.minWeight = minWeight;
+    }
+
+    /**
+     * Compresses a graph. Out-edges of each vertex are reordered by target.
+     * @param graph the input graph
+     * @return compressed copy
+     */
+    public static CompressedGraph fromGraph(GraphView graph) {
+        int n = graph.getVertexCount();
+        EdgeCursor cursor = graph.newCursor();
+
+        // First pass: degrees and weight range
+        int[] edgeOffsets = new int[n + 1];
+        long minW = Long.MAX_VALUE;
+        long maxW = Long.MIN_VALUE;
+        for (int u = 0; u < n; u++) {
+            edgeOffsets[u + 1] = edgeOffsets[u] + graph.getOutDegree(u);
+            cursor.reset(u);
+            while (cursor.next()) {
+                minW = Math.min(minW, cursor.weight());
+                maxW = Math.max(maxW, cursor.weight());
+            }
+        }
+        int m = edgeOffsets[n];
+        int minWeight = m == 0 ? 0 : (int) minW;
+        long range = m == 0 ? 0 : maxW - minW;
+        int weightWidth = 64 - Long.numberOfLeadingZeros(range);
+
+        long[] weightBits = new long[(int) (((long) m * weightWidth + 63) >>> 6)];
+        int[] byteOffsets = new int[n + 1];
+        byte[] data = new byte[Math.max(16, m * 2)];
+        int write = 0;
+
+        // Second pass: sort targets, encode gaps and pack weights
+        long[] keyed = new long[16];
+        for (int u = 0; u < n; u++) {
+            int degree = graph.getOutDegree(u);
+            if (keyed.length < degree) {
+                keyed = new long[Math.max(degree, keyed.length * 2)];
+            }
+            int k = 0;
+            cursor.reset(u);
+            while (cursor.next()) {
+                // Target in the high half so the sort orders by target, weight offset below
+                keyed[k++] = ((long) cursor.target() << 32) | (cursor.weight() - minWeight & 0xFFFFFFFFL);
+            }
+            Arrays.sort(keyed, 0, degree);
+
+            byteOffsets[u] = write;
+            int prev = u;
+            for (int i = 0; i < degree; i++) {
+                int target = (int) (keyed[i] >>> 32);
+                int gap = i == 0 ? zigzag(target - u) : target - prev;
+                prev = target;
+
+                if (data.length - write < 5) {
+                    data = Arrays.copyOf(data, data.length * 2);
+                }
+                write = writeVarint(data, write, gap);
+                putBits(weightBits, (long) (edgeOffsets[u] + i) * weightWidth, weightWidth, keyed[i] & 0xFFFFFFFFL);
+            }
+        }
+        byteOffsets[n] = write;
+
+        return new CompressedGraph(n, graph.isDirected(), graph.getWeightModel(), byteOffsets, edgeOffsets,
+                Arrays.copyOf(data, write), weightBits, weightWidth, minWeight);
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int writeVarint(byte[] buf, int pos, int value) {
+        while ((value & ~0x7F) != 0) {
+            buf[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buf[pos++] = (byte) value;
+        return pos;
+    }
+
+    private static void putBits(long[] bits, long bitPos, int width, long value) {
+        if (width == 0) {
+            return;
+        }
+        int word = (int) (bitPos >>> 6);
+        int shift = (int) (bitPos & 63);
+        bits[word] |= value << shift;
+        if (shift + width > 64) {
+            bits[word + 1] |= value >>> (64 - shift);
+        }
+    }
+
+    private int getWeight(int edgeIndex) {
+        if (weightWidth == 0) {
+            return minWeight;
+        }
+        long bitPos = (long) edgeIndex * weightWidth;
+        int word = (int) (bitPos >>> 6);
+        int shift = (int) (bitPos & 63);
+        long value = weightBits[word] >>> shift;
+        if (shift + weightWidth > 64) {
+            value |= weightBits[word + 1] << (64 - shift);
+        }
+        long mask = weightWidth == 64 ? -1L : (1L << weightWidth) - 1;
+        return (int) (value & mask) + minWeight;
+    }
+
+    @Override
+    public int getVertexCount() {
+        return n;
+    }
+
+    @Override
+    public boolean isDirected() {
+        return directed;
+    }
+
+    @Override
+    public String getWeightModel() {
+        return weightModel;
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return directed ? edgeOffsets[n] : edgeOffsets[n] / 2;
+    }
+
+    @Override
+    public int getOutDegree(int u) {
+        return edgeOffsets[u + 1] - edgeOffsets[u];
+    }
+
+    @Override
+    public EdgeCursor newCursor() {
+        return new VarintCursor();
+    }
+
+    /**
+     * Estimates the heap footprint of the compressed arrays.
+     * @return approximate size in bytes
+     */
+    public long getMemoryBytes() {
+        return 4L * byteOffsets.length + 4L * edgeOffsets.length + data.length + 8L * weightBits.length;
+    }
+
+    /**
+     * Sequential decoder over one vertex's edges.
+     */
+    private class VarintCursor implements EdgeCursor {
+        private int pos;
+        private int end;
+        private int edge;
+        private int source;
+        private int target;
+        private boolean first;
+
+        @Override
+        public void reset(int u) {
+            pos = byteOffsets[u];
+            end = byteOffsets[u + 1];
+            edge = edgeOffsets[u] - 1;
+            source = u;
+            first = true;
+        }
+
+        @Override
+        public boolean next() {
+            if (pos >= end) {
+                return false;
+            }
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            if (first) {
+                target = source + unzigzag(value);
+                first = false;
+            } else {
+                target += value;
+            }
+            edge++;
+            return true;
+        }
+
+        @Override
+        public int target() {
+            return target;
+        }
+
+        @Override
+        public int weight() {
+            return getWeight(edge);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.graph.common;
+
+/**
+ * Forward-only cursor over the out-edges of one vertex.
+ * Usage:
+ * <pre>
+ *   cursor.reset(u);
+ *   while (cursor.next()) {
+ *       int v = cursor.target();
+ *       int w = cursor.weight();
+ *   }
+ * </pre>
+ */
+public interface EdgeCursor {
+    /**
+     * Positions the cursor before the first out-edge of a vertex.
+     * @param u vertex
+     */
+    void reset(int u);
+
+    /**
+     * Advances to the next edge.
+     * @return false if there are no more edges
+     */
+    boolean next();
+
+    /**
+     * Gets the target of the current edge.
+     * @return target vertex
+     */
+    int target();
+
+    /**
+     * Gets the weight of the current edge.
+     * @return edge weight
+     */
+    int weight();
+}
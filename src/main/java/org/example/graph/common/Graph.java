@@ -6,11 +6,12 @@ import java.util.*;
  * Represents a directed weighted graph.
  * Supports adjacency list representation with edge weights.
  */
-public class Graph {
+public class Graph implements GraphView {
     private final int n; // number of vertices
     private final List<List<Edge>> adj; // adjacency list
     private final boolean directed;
     private final String weightModel; // "edge" or "node"
+    private ReverseIndex reverseIndex; // built on demand, dropped on mutation
 
     /**
      * Edge class representing a weighted edge.
@@ -46,6 +47,17 @@ public class Graph {
         }
     }
 
+    /**
+     * Wraps prebuilt mutable adjacency lists, one per vertex; used by
+     * {@link ParallelGraphBuilder}.
+     */
+    Graph(boolean directed, String weightModel, List<List<Edge>> adj) {
+        this.n = adj.size();
+        this.directed = directed;
+        this.weightModel = weightModel;
+        this.adj = adj;
+    }
+
     /**
      * Adds an edge to the graph.
      * @param u source vertex
@@ -53,22 +65,92 @@ public class Graph {
      * @param weight edge weight
      */
     public void addEdge(int u, int v, int weight) {
+        reverseIndex = null;
         adj.get(u).add(new Edge(v, weight));
         if (!directed) {
             adj.get(v).add(new Edge(u, weight));
         }
     }
 
+    /**
+     * Adds a single arc u -> v, even in an undirected graph (whose
+     * adjacency lists already hold both directions of each edge).
+     */
+    void addArc(int u, int v, int weight) {
+        reverseIndex = null;
+        adj.get(u).add(new Edge(v, weight));
+    }
+
+    /**
+     * Freezes the current contents into an immutable, thread-safe snapshot.
+     * Later changes to this graph do not affect the snapshot.
+     * @return read-only CSR copy tagged with version 0
+     */
+    public GraphSnapshot freeze() {
+        return GraphSnapshot.of(this, 0);
+    }
+
+    /**
+     * Removes the first edge from u to v.
+     * @param u source vertex
+     * @param v destination vertex
+     * @return true if an edge was removed
+     */
+    public boolean removeEdge(int u, int v) {
+        int i = indexOfEdge(u, v);
+        if (i < 0) {
+            return false;
+        }
+        reverseIndex = null;
+        adj.get(u).remove(i);
+        if (!directed) {
+            adj.get(v).remove(indexOfEdge(v, u));
+        }
+        return true;
+    }
+
+    /**
+     * Changes the weight of the first edge from u to v.
+     * @param u source vertex
+     * @param v destination vertex
+     * @param weight new edge weight
+     * @return true if an edge was updated
+     */
+    public boolean setEdgeWeight(int u, int v, int weight) {
+        int i = indexOfEdge(u, v);
+        if (i < 0) {
+            return false;
+        }
+        reverseIndex = null;
+        adj.get(u).set(i, new Edge(v, weight));
+        if (!directed) {
+            adj.get(v).set(indexOfEdge(v, u), new Edge(u, weight));
+        }
+        return true;
+    }
+
+    private int indexOfEdge(int u, int v) {
+        List<Edge> edges = adj.get(u);
+        for (int i = 0; i < edges.size(); i++) {
+            if (edges.get(i).to == v) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Gets the number of vertices.
      * @return number of vertices
      */
+    @Override
     public int getVertexCount() {
         return n;
     }
 
     /**
-     * Gets the adjacency list for a vertex.
+     * Gets the adjacency list for a vertex. The list is live and not
+     * thread-safe; share a {@link #freeze()} snapshot across threads instead.
      * @param u vertex
      * @return list of outgoing edges
      */
@@ -76,10 +158,87 @@ public class Graph {
         return adj.get(u);
     }
 
+    @Override
+    public int getOutDegree(int u) {
+        return adj.get(u).size();
+    }
+
+    /**
+     * Gets the in-edge index of this graph, building it on first use.
+     * The index is rebuilt after any edge is added, removed or reweighted.
+     * @return reverse CSR index
+     */
+    public ReverseIndex getReverseIndex() {
+        if (reverseIndex == null) {
+            reverseIndex = ReverseIndex.build(this);
+        }
+        return reverseIndex;
+    }
+
+    /**
+     * Gets the incoming edges of a vertex; {@code target()} is the edge source.
+     * @param v vertex
+     * @return cursor positioned before the first in-edge of v
+     */
+    public EdgeCursor getIncomingEdges(int v) {
+        EdgeCursor cursor = getReverseIndex().newCursor();
+        cursor.reset(v);
+        return cursor;
+    }
+
+    /**
+     * Gets the number of incoming edges of a vertex.
+     * @param v vertex
+     * @return in-degree
+     */
+    public int getInDegree(int v) {
+        return getReverseIndex().getInDegree(v);
+    }
+
+    @Override
+    public EdgeCursor newCursor() {
+        return new ListCursor();
+    }
+
+    /**
+     * Cursor over the adjacency list of a vertex.
+     */
+    private class ListCursor implements EdgeCursor {
+        private List<Edge> edges = Collections.emptyList();
+        private int index;
+        private Edge current;
+
+        @Override
+        public void reset(int u) {
+            edges = adj.get(u);
+            index = 0;
+        }
+
+        @Override
+        public boolean next() {
+            if (index < edges.size()) {
+                current = edges.get(index++);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public int target() {
+            return current.to;
+        }
+
+        @Override
+        public int weight() {
+            return current.weight;
+        }
+    }
+
     /**
      * Checks if the graph is directed.
      * @return true if directed
      */
+    @Override
     public boolean isDirected() {
         return directed;
     }
@@ -88,6 +247,7 @@ public class Graph {
      * Gets the weight model.
      * @return weight model string
      */
+    @Override
     public String getWeightModel() {
         return weightModel;
     }
@@ -96,6 +256,7 @@ public class Graph {
      * Counts the total number of edges.
      * @return number of edges
      */
+    @Override
     public int getEdgeCount() {
         int count = 0;
         for (int i = 0; i < n; i++) {
@@ -0,0 +1,69 @@
+package org.example.graph.common;
+
+import jdk.jfr.*;
+
+/**
+ * Java Flight Recorder event covering the load of one graph file.
+ * Follows the same begin/end pattern as {@link AlgorithmPhaseEvent}.
+ */
+@Name("org.example.graph.GraphLoad")
+@Label("Graph Load")
+@Category({"Graph Algorithms"})
+@Description("Reading and building a graph from an input file")
+@StackTrace(false)
+public class GraphLoadEvent extends Event {
+
+    @Label("Path")
+    String path;
+
+    @Label("File Size")
+    @DataAmount
+    long fileBytes;
+
+    @Label("Vertices")
+    int vertices;
+
+    @Label("Edges")
+    long edges;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+
+    private transient long allocationStart;
+
+    /**
+     * Starts timing a graph load.
+     * @param path input file path
+     * @param fileBytes size of the input file
+     * @return event to pass to {@link #end(int, long)}
+     */
+    public static GraphLoadEvent begin(String path, long fileBytes) {
+        GraphLoadEvent event = new GraphLoadEvent();
+        if (event.isEnabled()) {
+            event.path = path;
+            event.fileBytes = fileBytes;
+            event.allocationStart = AlgorithmPhaseEvent.threadAllocatedBytes();
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Finishes the load and commits the event if it is being recorded.
+     * @param vertices number of vertices loaded
+     * @param edges number of edges loaded
+     */
+    public void end(int vertices, long edges) {
+        if (isEnabled()) {
+            end();
+            if (shouldCommit()) {
+                this.vertices = vertices;
+                this.edges = edges;
+                long now = AlgorithmPhaseEvent.threadAllocatedBytes();
+                this.allocatedBytes = allocationStart < 0 || now < 0 ? -1 : now - allocationStart;
+                commit();
+            }
+        }
+    }
+}
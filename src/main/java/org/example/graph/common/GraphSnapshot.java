@@ -0,0 +1,176 @@
+package org.example.graph.common;
+
+/**
+ * Immutable, read-only copy of a graph in CSR form.
+ *
+ * All state lives in final arrays that are never written after
+ * construction, so a snapshot is safely published by any handoff and can
+ * be read by any number of threads without locking. Each thread must use
+ * its own {@link EdgeCursor}; cursors are cheap views over the shared arrays.
+ * Out-edges keep the order they had in the source graph.
+ * Space: 4 bytes per vertex plus 8 bytes per edge
+ */
+public final class GraphSnapshot implements GraphView {
+    private final int n;
+    private final boolean directed;
+    private final String weightModel;
+    private final long version;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+
+    private GraphSnapshot(int n, boolean directed, String weightModel, long version,
+                          int[] offsets, int[] targets, int[] weights) {
+        this.n = n;
+        this.directed = directed;
+        this.weightModel = weightModel;
+        this.version = version;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+
+    /**
+     * Copies a graph into a snapshot.
+     * @param graph the source graph
+     * @param version version number to tag the snapshot with
+     * @return immutable snapshot
+     */
+    public static GraphSnapshot of(GraphView graph, long version) {
+        int n = graph.getVertexCount();
+        int[] offsets = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            offsets[u + 1] = offsets[u] + graph.getOutDegree(u);
+        }
+        int[] targets = new int[offsets[n]];
+        int[] weights = new int[offsets[n]];
+        EdgeCursor edges = graph.newCursor();
+        int k = 0;
+        for (int u = 0; u < n; u++) {
+            edges.reset(u);
+            while (edges.next()) {
+                targets[k] = edges.target();
+                weights[k++] = edges.weight();
+            }
+        }
+        return new GraphSnapshot(n, graph.isDirected(), graph.getWeightModel(), version, offsets, targets, weights);
+    }
+
+    /**
+     * Wraps CSR arrays built elsewhere without copying them. The caller hands
+     * over ownership and must not modify the arrays afterwards.
+     * @param directed whether the graph is directed
+     * @param weightModel weight model
+     * @param version version number
+     * @param offsets out-edge start per vertex, length n + 1
+     * @param targets edge targets
+     * @param weights edge weights
+     * @return snapshot over the given arrays
+     */
+    public static GraphSnapshot wrap(boolean directed, String weightModel, long version,
+                                     int[] offsets, int[] targets, int[] weights) {
+        return new GraphSnapshot(offsets.length - 1, directed, weightModel, version, offsets, targets, weights);
+    }
+
+    /**
+     * Creates a mutable copy for applying updates.
+     * @return new Graph with the same edges in the same order
+     */
+    public Graph toGraph() {
+        Graph graph = new Graph(n, directed, weightModel);
+        for (int u = 0; u < n; u++) {
+            for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                // Copy stored arcs one by one: undirected edges are already stored twice
+                graph.addArc(u, targets[i], weights[i]);
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Gets the version this snapshot was tagged with.
+     * @return version number
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the target of the i-th out-edge of a vertex.
+     * @param u vertex
+     * @param i edge index in [0, out-degree)
+     * @return target vertex
+     */
+    public int getTarget(int u, int i) {
+        return targets[offsets[u] + i];
+    }
+
+    /**
+     * Gets the weight of the i-th out-edge of a vertex.
+     * @param u vertex
+     * @param i edge index in [0, out-degree)
+     * @return edge weight
+     */
+    public int getWeight(int u, int i) {
+        return weights[offsets[u] + i];
+    }
+
+    @Override
+    public int getVertexCount() {
+        return n;
+    }
+
+    @Override
+    public boolean isDirected() {
+        return directed;
+    }
+
+    @Override
+    public String getWeightModel() {
+        return weightModel;
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return directed ? offsets[n] : offsets[n] / 2;
+    }
+
+    @Override
+    public int getOutDegree(int u) {
+        return offsets[u + 1] - offsets[u];
+    }
+
+    @Override
+    public EdgeCursor newCursor() {
+        return new ArrayCursor();
+    }
+
+    /**
+     * Cursor over a slice of the CSR arrays.
+     */
+    private class ArrayCursor implements EdgeCursor {
+        private int pos;
+        private int end;
+
+        @Override
+        public void reset(int u) {
+            pos = offsets[u] - 1;
+            end = offsets[u + 1];
+        }
+
+        @Override
+        public boolean next() {
+            return ++pos < end;
+        }
+
+        @Override
+        public int target() {
+            return targets[pos];
+        }
+
+        @Override
+        public int weight() {
+            return weights[pos];
+        }
+    }
+}
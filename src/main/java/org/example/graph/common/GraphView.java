@@ -0,0 +1,46 @@
+package org.example.graph.common;
+
+/**
+ * Read-only access to the out-edges of a graph.
+ * The algorithms walk edges through an {@link EdgeCursor}, so any storage
+ * layout (adjacency lists, compressed arrays, ...) can back them.
+ */
+public interface GraphView {
+    /**
+     * Gets the number of vertices.
+     * @return number of vertices
+     */
+    int getVertexCount();
+
+    /**
+     * Checks if the graph is directed.
+     * @return true if directed
+     */
+    boolean isDirected();
+
+    /**
+     * Gets the weight model.
+     * @return weight model string
+     */
+    String getWeightModel();
+
+    /**
+     * Counts the total number of edges.
+     * @return number of edges
+     */
+    int getEdgeCount();
+
+    /**
+     * Gets the number of outgoing edges of a vertex.
+     * @param u vertex
+     * @return out-degree
+     */
+    int getOutDegree(int u);
+
+    /**
+     * Creates a cursor over out-edges. A cursor can be reset and reused for
+     * any number of vertices, but is not thread-safe.
+     * @return new edge cursor
+     */
+    EdgeCursor newCursor();
+}
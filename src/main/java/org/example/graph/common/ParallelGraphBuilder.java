@@ -0,0 +1,227 @@
+package org.example.graph.common;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Builds a {@link Graph} from primitive edge buffers in parallel.
+ *
+ * 1. Count: every buffer counts its arcs per vertex range. An undirected
+ *    edge is one arc from each endpoint.
+ * 2. Scatter: prefix sums over (range, buffer) give every buffer its own
+ *    slot in each range's arc array, and the buffers copy their arcs in
+ *    parallel.
+ * 3. Fill: every range creates the adjacency lists of its vertices with
+ *    the exact capacity and appends its arcs.
+ *
+ * Arcs arrive buffer by buffer and in order within a buffer, so the lists
+ * are identical to calling {@link Graph#addEdge} for every edge in turn.
+ * Buffers use the layout {count, u0, v0, w0, u1, v1, w1, ...}.
+ * Time complexity: O(V + E) work
+ */
+public class ParallelGraphBuilder {
+    private static final int MAX_RANGE_INTS = Integer.MAX_VALUE - 8;
+
+    private final int n;
+    private final boolean directed;
+    private final String weightModel;
+    private final Metrics metrics;
+
+    /**
+     * Constructs a ParallelGraphBuilder.
+     * @param n number of vertices
+     * @param directed whether the graph is directed
+     * @param weightModel weight model ("edge" or "node")
+     * @param metrics metrics tracker
+     */
+    public ParallelGraphBuilder(int n, boolean directed, String weightModel, Metrics metrics) {
+        this.n = n;
+        this.directed = directed;
+        this.weightModel = weightModel;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Builds the graph on a dedicated ForkJoin pool.
+     * @param buffers edge buffers, in edge order
+     * @param parallelism number of worker threads
+     * @return the graph
+     */
+    public Graph build(List<int[]> buffers, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        try {
+            return build(buffers, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Builds the graph on an existing ForkJoin pool.
+     * @param buffers edge buffers, in edge order
+     * @param pool pool to run the tasks on
+     * @return the graph
+     * @throws IndexOutOfBoundsException if an edge endpoint is not a vertex
+     */
+    public Graph build(List<int[]> buffers, ForkJoinPool pool) {
+        int bufferCount = buffers.size();
+        long arcCount = 0;
+        for (int[] buffer : buffers) {
+            arcCount += directed ? buffer[0] : 2L * buffer[0];
+        }
+        metrics.startTimer();
+
+        // 1. Count arcs per (buffer, range); ranges are sized so their arc arrays fit
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("ParallelGraphBuilder", "count", n);
+        long wanted = Math.max(pool.getParallelism() * 4L, 3 * arcCount / MAX_RANGE_INTS + 1);
+        int rangeSize = (int) Math.max(1, (n + wanted - 1) / wanted);
+        int ranges = n == 0 ? 0 : (n + rangeSize - 1) / rangeSize;
+        int[][] counts = new int[bufferCount][];
+        forEach(pool, bufferCount, b -> counts[b] = countArcs(buffers.get(b), ranges, rangeSize));
+        phase.end(arcCount);
+
+        // 2. Scatter arcs into per-range arrays, buffer by buffer
+        phase = AlgorithmPhaseEvent.begin("ParallelGraphBuilder", "scatter", n);
+        int[][] slots = new int[bufferCount][ranges];
+        int[] rangeArcs = new int[ranges];
+        for (int r = 0; r < ranges; r++) {
+            long running = 0;
+            for (int b = 0; b < bufferCount; b++) {
+                slots[b][r] = (int) running;
+                running += counts[b][r];
+            }
+            if (3 * running > MAX_RANGE_INTS) {
+                throw new IllegalStateException("Too many edges on vertices " + r * rangeSize
+                        + " to " + Math.min(n, (r + 1) * rangeSize) + ": " + running);
+            }
+            rangeArcs[r] = (int) running;
+        }
+        int[][] arcs = new int[ranges][];
+        forEach(pool, ranges, r -> arcs[r] = new int[3 * rangeArcs[r]]);
+        forEach(pool, bufferCount, b -> scatter(buffers.get(b), slots[b], arcs, rangeSize));
+        phase.end(arcCount);
+
+        // 3. Fill the adjacency lists of every range
+        phase = AlgorithmPhaseEvent.begin("ParallelGraphBuilder", "fill", n);
+        List<List<Graph.Edge>> adj = new ArrayList<>(Collections.nCopies(n, null));
+        forEach(pool, ranges, r -> {
+            fill(r * rangeSize, Math.min(n, (r + 1) * rangeSize), arcs[r], adj);
+            arcs[r] = null;
+        });
+        phase.end(arcCount);
+
+        metrics.stopTimer();
+        metrics.incrementCounter("arcs", (int) Math.min(Integer.MAX_VALUE, arcCount));
+        return new Graph(directed, weightModel, adj);
+    }
+
+    /**
+     * Counts the arcs of one buffer per vertex range.
+     */
+    private int[] countArcs(int[] buffer, int ranges, int rangeSize) {
+        int[] counts = new int[ranges];
+        for (int i = 0; i < buffer[0]; i++) {
+            int u = vertex(buffer[1 + 3 * i]);
+            int v = vertex(buffer[2 + 3 * i]);
+            counts[u / rangeSize]++;
+            if (!directed) {
+                counts[v / rangeSize]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Copies the arcs of one buffer to its slots as (source, target, weight).
+     */
+    private void scatter(int[] buffer, int[] slots, int[][] arcs, int rangeSize) {
+        int[] next = slots.clone();
+        for (int i = 0; i < buffer[0]; i++) {
+            int u = buffer[1 + 3 * i];
+            int v = buffer[2 + 3 * i];
+            int w = buffer[3 + 3 * i];
+            put(arcs, next, u / rangeSize, u, v, w);
+            if (!directed) {
+                put(arcs, next, v / rangeSize, v, u, w);
+            }
+        }
+    }
+
+    private static void put(int[][] arcs, int[] next, int range, int from, int to, int weight) {
+        int k = 3 * next[range]++;
+        arcs[range][k] = from;
+        arcs[range][k + 1] = to;
+        arcs[range][k + 2] = weight;
+    }
+
+    /**
+     * Creates the lists of vertices [lo, hi) from their range's arcs.
+     */
+    private static void fill(int lo, int hi, int[] arcs, List<List<Graph.Edge>> adj) {
+        int[] degree = new int[hi - lo];
+        for (int k = 0; k < arcs.length; k += 3) {
+            degree[arcs[k] - lo]++;
+        }
+        List<List<Graph.Edge>> lists = new ArrayList<>(hi - lo);
+        for (int v = lo; v < hi; v++) {
+            List<Graph.Edge> list = new ArrayList<>(degree[v - lo]);
+            lists.add(list);
+            adj.set(v, list);
+        }
+        for (int k = 0; k < arcs.length; k += 3) {
+            lists.get(arcs[k] - lo).add(new Graph.Edge(arcs[k + 1], arcs[k + 2]));
+        }
+    }
+
+    private int vertex(int v) {
+        if (v < 0 || v >= n) {
+            throw new IndexOutOfBoundsException("Edge endpoint " + v + " out of range for " + n + " vertices");
+        }
+        return v;
+    }
+
+    /**
+     * Runs body(i) for i in [0, count) as ForkJoin tasks and waits.
+     */
+    private static void forEach(ForkJoinPool pool, int count, IntConsumer body) {
+        if (count > 0) {
+            pool.invoke(new RangeTask(0, count, body));
+        }
+    }
+
+    /**
+     * Splits an index range in halves down to single indices.
+     */
+    @SuppressWarnings("serial")
+    private static class RangeTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final IntConsumer body;
+
+        RangeTask(int from, int to, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, mid, body), new RangeTask(mid, to, body));
+        }
+    }
+
+    /**
+     * Gets metrics for this execution.
+     * @return metrics object
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+}
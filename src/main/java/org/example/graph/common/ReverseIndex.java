@@ -0,0 +1,177 @@
+package org.example.graph.common;
+
+/**
+ * Reverse CSR index: the incoming edges of every vertex of a graph.
+ *
+ * Built in one counting-sort pass over the out-edges (count in-degrees,
+ * prefix-sum into offsets, scatter sources and weights), so it costs three
+ * int arrays and no Edge objects. The index is itself a {@link GraphView}
+ * of the transposed graph: a cursor reset to v walks the edges (u, v) with
+ * {@code target()} returning u. Algorithms can therefore pull from
+ * predecessors, or run unchanged on the transpose, without copying the graph.
+ *
+ * The index is a snapshot; it does not follow later changes to the graph.
+ * Time complexity: O(V + E) to build
+ */
+public class ReverseIndex implements GraphView {
+    private final int n;
+    private final boolean directed;
+    private final String weightModel;
+    private final int edgeCount;
+    private final int[] offsets;   // start of each vertex's in-edges
+    private final int[] sources;
+    private final int[] weights;
+
+    private ReverseIndex(GraphView graph, int[] offsets, int[] sources, int[] weights) {
+        this.n = graph.getVertexCount();
+        this.directed = graph.isDirected();
+        this.weightModel = graph.getWeightModel();
+        this.edgeCount = graph.getEdgeCount();
+        this.offsets = offsets;
+        this.sources = sources;
+        this.weights = weights;
+    }
+
+    /**
+     * Builds the reverse index of a graph.
+     * @param graph the input graph
+     * @return in-edge index
+     */
+    public static ReverseIndex build(GraphView graph) {
+        int n = graph.getVertexCount();
+        EdgeCursor edges = graph.newCursor();
+
+        // Count in-degrees, shifted by one for the prefix sum
+        int[] offsets = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            edges.reset(u);
+            while (edges.next()) {
+                offsets[edges.target() + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        // Scatter; sources of each vertex end up in increasing order
+        int m = offsets[n];
+        int[] sources = new int[m];
+        int[] weights = new int[m];
+        int[] next = new int[n];
+        System.arraycopy(offsets, 0, next, 0, n);
+        for (int u = 0; u < n; u++) {
+            edges.reset(u);
+            while (edges.next()) {
+                int slot = next[edges.target()]++;
+                sources[slot] = u;
+                weights[slot] = edges.weight();
+            }
+        }
+        return new ReverseIndex(graph, offsets, sources, weights);
+    }
+
+    /**
+     * Gets the number of incoming edges of a vertex.
+     * @param v vertex
+     * @return in-degree
+     */
+    public int getInDegree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    /**
+     * Gets the source of the i-th incoming edge of a vertex.
+     * @param v vertex
+     * @param i edge index in [0, in-degree)
+     * @return source vertex
+     */
+    public int getSource(int v, int i) {
+        return sources[offsets[v] + i];
+    }
+
+    /**
+     * Gets the weight of the i-th incoming edge of a vertex.
+     * @param v vertex
+     * @param i edge index in [0, in-degree)
+     * @return edge weight
+     */
+    public int getWeight(int v, int i) {
+        return weights[offsets[v] + i];
+    }
+
+    @Override
+    public int getVertexCount() {
+        return n;
+    }
+
+    @Override
+    public boolean isDirected() {
+        return directed;
+    }
+
+    @Override
+    public String getWeightModel() {
+        return weightModel;
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    /**
+     * Gets the out-degree in the transposed graph, i.e. the in-degree.
+     * @param u vertex
+     * @return in-degree of u in the original graph
+     */
+    @Override
+    public int getOutDegree(int u) {
+        return getInDegree(u);
+    }
+
+    /**
+     * Creates a cursor over incoming edges; {@code target()} is the source.
+     * @return new edge cursor
+     */
+    @Override
+    public EdgeCursor newCursor() {
+        return new InEdgeCursor();
+    }
+
+    /**
+     * Estimates the heap footprint of the index arrays.
+     * @return approximate size in bytes
+     */
+    public long getMemoryBytes() {
+        return 4L * offsets.length + 4L * sources.length + 4L * weights.length;
+    }
+
+    /**
+     * Cursor over a slice of the CSR arrays.
+     */
+    private class InEdgeCursor implements EdgeCursor {
+        private int pos;
+        private int end;
+
+        @Override
+        public void reset(int u) {
+            pos = offsets[u] - 1;
+            end = offsets[u + 1];
+        }
+
+        @Override
+        public boolean next() {
+            return ++pos < end;
+        }
+
+        @Override
+        public int target() {
+            return sources[pos];
+        }
+
+        @Override
+        public int weight() {
+            return weights[pos];
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package org.example.graph.common;
+
+import java.util.BitSet;
+
+/**
+ * Zero-copy view of an induced subgraph, optionally with an edge filter.
+ *
+ * The view selects a set of vertices (an id range or a bitset) from a base
+ * {@link GraphView} and renumbers them 0..k-1 in increasing original id
+ * order. Only edges with both ends selected and accepted by the filter are
+ * visible. Edges are never copied: the view's cursor walks the base
+ * graph's cursor and skips everything else, so the base graph must not be
+ * modified while the view is in use.
+ *
+ * Because the view is a GraphView, TarjanSCC, the topological sorts and
+ * DAGShortestPath run on it directly; translate results back with
+ * {@link #toOriginal(int)}.
+ * Space: O(1) for ranges, 4 bytes per selected vertex plus 4 bytes per base
+ * vertex for bitsets
+ */
+public class SubgraphView implements GraphView {
+    /**
+     * Predicate on edges of the base graph (original vertex ids).
+     */
+    @FunctionalInterface
+    public interface EdgeFilter {
+        /**
+         * Decides whether an edge is part of the view.
+         * @param u source vertex (original id)
+         * @param v target vertex (original id)
+         * @param weight edge weight
+         * @return true to keep the edge
+         */
+        boolean accept(int u, int v, int weight);
+
+        /**
+         * Keeps edges with weight at most a threshold.
+         * @param maxWeight largest accepted weight
+         * @return edge filter
+         */
+        static EdgeFilter maxWeight(int maxWeight) {
+            return (u, v, w) -> w <= maxWeight;
+        }
+
+        /**
+         * Keeps edges with weight at least a threshold.
+         * @param minWeight smallest accepted weight
+         * @return edge filter
+         */
+        static EdgeFilter minWeight(int minWeight) {
+            return (u, v, w) -> w >= minWeight;
+        }
+    }
+
+    private final GraphView base;
+    private final int size;
+    private final int rangeStart;     // used when originalIds is null
+    private final int[] originalIds;  // local -> original, bitset views only
+    private final int[] localIds;     // original -> local or -1, bitset views only
+    private final EdgeFilter filter;  // null keeps every edge
+
+    private SubgraphView(GraphView base, int size, int rangeStart, int[] originalIds, int[] localIds,
+                         EdgeFilter filter) {
+        this.base = base;
+        this.size = size;
+        this.rangeStart = rangeStart;
+        this.originalIds = originalIds;
+        this.localIds = localIds;
+        this.filter = filter;
+    }
+
+    /**
+     * Creates a view of the vertices in [from, to).
+     * @param base base graph
+     * @param from first vertex (inclusive)
+     * @param to last vertex (exclusive)
+     * @param filter edge filter, or null to keep all edges
+     * @return subgraph view
+     */
+    public static SubgraphView ofRange(GraphView base, int from, int to, EdgeFilter filter) {
+        if (from < 0 || to > base.getVertexCount() || from > to) {
+            throw new IllegalArgumentException("Invalid vertex range [" + from + ", " + to + ")");
+        }
+        return new SubgraphView(base, to - from, from, null, null, filter);
+    }
+
+    /**
+     * Creates a view of the vertices set in a bitset.
+     * @param base base graph
+     * @param vertices selected vertices (bits beyond the vertex count are ignored)
+     * @param filter edge filter, or null to keep all edges
+     * @return subgraph view
+     */
+    public static SubgraphView of(GraphView base, BitSet vertices, EdgeFilter filter) {
+        int n = base.getVertexCount();
+        int[] localIds = new int[n];
+        int size = vertices.get(0, n).cardinality();
+        int[] originalIds = new int[size];
+        int k = 0;
+        for (int v = 0; v < n; v++) {
+            if (vertices.get(v)) {
+                originalIds[k] = v;
+                localIds[v] = k++;
+            } else {
+                localIds[v] = -1;
+            }
+        }
+        return new SubgraphView(base, size, 0, originalIds, localIds, filter);
+    }
+
+    /**
+     * Creates a view of all vertices with only the edges a filter accepts.
+     * @param base base graph
+     * @param filter edge filter
+     * @return subgraph view
+     */
+    public static SubgraphView filterEdges(GraphView base, EdgeFilter filter) {
+        return ofRange(base, 0, base.getVertexCount(), filter);
+    }
+
+    /**
+     * Maps a view vertex to the base graph.
+     * @param local vertex id in the view
+     * @return original vertex id
+     */
+    public int toOriginal(int local) {
+        return originalIds == null ? local + rangeStart : originalIds[local];
+    }
+
+    /**
+     * Maps a base graph vertex into the view.
+     * @param original vertex id in the base graph
+     * @return vertex id in the view, or -1 if not selected
+     */
+    public int toLocal(int original) {
+        if (originalIds != null) {
+            return original >= 0 && original < localIds.length ? localIds[original] : -1;
+        }
+        int local = original - rangeStart;
+        return local >= 0 && local < size ? local : -1;
+    }
+
+    @Override
+    public int getVertexCount() {
+        return size;
+    }
+
+    @Override
+    public boolean isDirected() {
+        return base.isDirected();
+    }
+
+    @Override
+    public String getWeightModel() {
+        return base.getWeightModel();
+    }
+
+    /**
+     * Counts the visible edges by scanning the selected vertices.
+     * @return number of edges in the view
+     */
+    @Override
+    public int getEdgeCount() {
+        long count = 0;
+        EdgeCursor edges = newCursor();
+        for (int u = 0; u < size; u++) {
+            edges.reset(u);
+            while (edges.next()) {
+                count++;
+            }
+        }
+        return (int) (isDirected() ? count : count / 2);
+    }
+
+    /**
+     * Counts the visible out-edges of a vertex by scanning them.
+     * @param u vertex id in the view
+     * @return out-degree in the view
+     */
+    @Override
+    public int getOutDegree(int u) {
+        int degree = 0;
+        EdgeCursor edges = newCursor();
+        edges.reset(u);
+        while (edges.next()) {
+            degree++;
+        }
+        return degree;
+    }
+
+    @Override
+    public EdgeCursor newCursor() {
+        return new FilteringCursor(base.newCursor());
+    }
+
+    /**
+     * Walks the base cursor and skips edges outside the view.
+     */
+    private class FilteringCursor implements EdgeCursor {
+        private final EdgeCursor inner;
+        private int source;
+        private int target;
+
+        FilteringCursor(EdgeCursor inner) {
+            this.inner = inner;
+        }
+
+        @Override
+        public void reset(int u) {
+            source = toOriginal(u);
+            inner.reset(source);
+        }
+
+        @Override
+        public boolean next() {
+            while (inner.next()) {
+                int v = inner.target();
+                int local = toLocal(v);
+                if (local >= 0 && (filter == null || filter.accept(source, v, inner.weight()))) {
+                    target = local;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int target() {
+            return target;
+        }
+
+        @Override
+        public int weight() {
+            return inner.weight();
+        }
+    }
+}
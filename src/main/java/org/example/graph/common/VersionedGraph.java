@@ -0,0 +1,64 @@
+package org.example.graph.common;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Copy-on-write holder for a graph shared between reader and writer threads.
+ *
+ * Readers call {@link #snapshot()} and work on the returned immutable
+ * {@link GraphSnapshot}; they never lock and never see a partially applied
+ * update. Writers call {@link #update(Consumer)}, which thaws the current
+ * snapshot into a private {@link Graph}, applies the mutation, freezes the
+ * result and publishes it with one atomic reference swap. Writers are
+ * serialized with each other only.
+ *
+ * Each update copies the whole graph, so batch many edge changes into one
+ * update call.
+ * Time complexity: O(V + E) per update, O(1) per snapshot
+ */
+public class VersionedGraph {
+    private final AtomicReference<GraphSnapshot> current;
+    private final Object writeLock = new Object();
+
+    /**
+     * Constructs a VersionedGraph starting from a copy of a graph.
+     * @param initial initial graph contents (copied; later changes are not seen)
+     */
+    public VersionedGraph(GraphView initial) {
+        this.current = new AtomicReference<>(GraphSnapshot.of(initial, 0));
+    }
+
+    /**
+     * Gets the latest published snapshot.
+     * @return immutable snapshot
+     */
+    public GraphSnapshot snapshot() {
+        return current.get();
+    }
+
+    /**
+     * Gets the version of the latest published snapshot.
+     * @return version number, starting at 0
+     */
+    public long getVersion() {
+        return current.get().getVersion();
+    }
+
+    /**
+     * Applies a batch of changes and publishes the result as a new snapshot.
+     * If the mutation throws, nothing is published.
+     * @param mutation changes to apply to a private mutable copy
+     * @return the newly published snapshot
+     */
+    public GraphSnapshot update(Consumer<Graph> mutation) {
+        synchronized (writeLock) {
+            GraphSnapshot base = current.get();
+            Graph working = base.toGraph();
+            mutation.accept(working);
+            GraphSnapshot next = GraphSnapshot.of(working, base.getVersion() + 1);
+            current.set(next);
+            return next;
+        }
+    }
+}
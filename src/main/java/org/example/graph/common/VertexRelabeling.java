@@ -0,0 +1,366 @@
+package org.example.graph.common;
+
+import java.util.*;
+
+/**
+ * Permutation of vertex ids chosen to improve memory locality.
+ * Algorithms touch per-vertex arrays (dist[], ids[], low[], ...) in the
+ * order they walk edges; renumbering vertices so that neighbours get
+ * nearby ids turns most of those accesses into cache hits.
+ *
+ * A relabeling maps original ids to new ids ({@link #toNew(int)}) and back
+ * ({@link #toOriginal(int)}), builds the permuted graph ({@link #apply(Graph)})
+ * and translates per-vertex results back to original ids.
+ * Time complexity: O(V + E) for BFS and TOPOLOGICAL, O((V + E) log V) otherwise
+ */
+public class VertexRelabeling {
+
+    /**
+     * Ordering strategy.
+     */
+    public enum Strategy {
+        /** Breadth-first order over the underlying undirected graph. */
+        BFS,
+        /** Reverse Cuthill-McKee: BFS from low-degree vertices, neighbours by degree, reversed. */
+        REVERSE_CUTHILL_MCKEE,
+        /** Highest total degree first, so hub vertices share cache lines. */
+        DEGREE,
+        /** Topological order (DAGs only), so forward sweeps read arrays sequentially. */
+        TOPOLOGICAL
+    }
+
+    private final int[] newId;  // original id -> new id
+    private final int[] oldId;  // new id -> original id
+
+    private VertexRelabeling(int[] oldId) {
+        this.oldId = oldId;
+        this.newId = new int[oldId.length];
+        for (int i = 0; i < oldId.length; i++) {
+            newId[oldId[i]] = i;
+        }
+    }
+
+    /**
+     * Computes a relabeling of a graph.
+     * @param graph the input graph
+     * @param strategy ordering strategy
+     * @return relabeling
+     * @throws IllegalArgumentException if TOPOLOGICAL is requested for a cyclic graph
+     */
+    public static VertexRelabeling compute(Graph graph, Strategy strategy) {
+        switch (strategy) {
+            case BFS:
+                return new VertexRelabeling(bfsOrder(graph, false));
+            case REVERSE_CUTHILL_MCKEE:
+                int[] order = bfsOrder(graph, true);
+                reverse(order);
+                return new VertexRelabeling(order);
+            case DEGREE:
+                return new VertexRelabeling(degreeOrder(graph));
+            case TOPOLOGICAL:
+                return new VertexRelabeling(topologicalOrder(graph));
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + strategy);
+        }
+    }
+
+    /**
+     * Creates a relabeling from an explicit order.
+     * @param order order[newId] = original id; must be a permutation of 0..n-1
+     * @return relabeling
+     */
+    public static VertexRelabeling fromOrder(int[] order) {
+        boolean[] seen = new boolean[order.length];
+        for (int v : order) {
+            if (v < 0 || v >= order.length || seen[v]) {
+                throw new IllegalArgumentException("Order is not a permutation");
+            }
+            seen[v] = true;
+        }
+        return new VertexRelabeling(order.clone());
+    }
+
+    /**
+     * Builds the permuted graph. Each adjacency list is sorted by new target id.
+     * @param graph the graph this relabeling was computed for
+     * @return graph with vertex i corresponding to original vertex toOriginal(i)
+     */
+    public Graph apply(Graph graph) {
+        int n = graph.getVertexCount();
+        if (n != oldId.length) {
+            throw new IllegalArgumentException("Relabeling size does not match graph");
+        }
+        Graph permuted = new Graph(n, graph.isDirected(), graph.getWeightModel());
+        for (int u = 0; u < n; u++) {
+            List<Graph.Edge> edges = graph.getAdjacentEdges(oldId[u]);
+            long[] keyed = new long[edges.size()];
+            for (int i = 0; i < keyed.length; i++) {
+                keyed[i] = ((long) newId[edges.get(i).to] << 32) | i;
+            }
+            Arrays.sort(keyed);
+
+            boolean addLoop = true;
+            for (long key : keyed) {
+                Graph.Edge e = edges.get((int) key);
+                int v = (int) (key >>> 32);
+                if (!graph.isDirected()) {
+                    // Each undirected edge is stored twice; add it from its lower endpoint only
+                    if (v < u) {
+                        continue;
+                    }
+                    if (v == u) {
+                        addLoop = !addLoop;
+                        if (addLoop) {
+                            continue;
+                        }
+                    }
+                }
+                permuted.addEdge(u, v, e.weight);
+            }
+        }
+        return permuted;
+    }
+
+    /**
+     * Maps an original vertex id to its new id.
+     * @param original original id
+     * @return new id
+     */
+    public int toNew(int original) {
+        return newId[original];
+    }
+
+    /**
+     * Maps a new vertex id back to the original id.
+     * @param relabeled new id
+     * @return original id
+     */
+    public int toOriginal(int relabeled) {
+        return oldId[relabeled];
+    }
+
+    /**
+     * Reorders a per-vertex array (e.g. distances) from new to original indexing.
+     * @param values values indexed by new id
+     * @return values indexed by original id
+     */
+    public int[] mapBackValues(int[] values) {
+        int[] result = new int[values.length];
+        for (int v = 0; v < result.length; v++) {
+            result[v] = values[newId[v]];
+        }
+        return result;
+    }
+
+    /**
+     * Reorders a per-vertex array of vertex ids (e.g. parents) and translates
+     * its entries; negative entries such as -1 are kept.
+     * @param parents vertex ids indexed by new id
+     * @return original vertex ids indexed by original id
+     */
+    public int[] mapBackParents(int[] parents) {
+        int[] result = new int[parents.length];
+        for (int v = 0; v < result.length; v++) {
+            int p = parents[newId[v]];
+            result[v] = p < 0 ? p : oldId[p];
+        }
+        return result;
+    }
+
+    /**
+     * Translates a sequence of vertex ids (e.g. a topological order or a path).
+     * @param vertices new vertex ids
+     * @return original vertex ids in the same sequence
+     */
+    public List<Integer> mapBackVertices(List<Integer> vertices) {
+        if (vertices == null) {
+            return null;
+        }
+        List<Integer> result = new ArrayList<>(vertices.size());
+        for (int v : vertices) {
+            result.add(oldId[v]);
+        }
+        return result;
+    }
+
+    /**
+     * Translates components; members of each component are sorted.
+     * @param components components over new ids
+     * @return components over original ids, in the same component order
+     */
+    public List<List<Integer>> mapBackComponents(List<List<Integer>> components) {
+        List<List<Integer>> result = new ArrayList<>(components.size());
+        for (List<Integer> component : components) {
+            List<Integer> mapped = mapBackVertices(component);
+            Collections.sort(mapped);
+            result.add(mapped);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the size of the permutation.
+     * @return number of vertices
+     */
+    public int size() {
+        return oldId.length;
+    }
+
+    /**
+     * Symmetric adjacency in CSR form, used by BFS-style orderings.
+     */
+    private static int[][] undirectedCsr(Graph graph) {
+        int n = graph.getVertexCount();
+        int[] offsets = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            for (Graph.Edge e : graph.getAdjacentEdges(u)) {
+                offsets[u + 1]++;
+                offsets[e.to + 1]++;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] targets = new int[offsets[n]];
+        int[] fill = Arrays.copyOf(offsets, n);
+        for (int u = 0; u < n; u++) {
+            for (Graph.Edge e : graph.getAdjacentEdges(u)) {
+                targets[fill[u]++] = e.to;
+                targets[fill[e.to]++] = u;
+            }
+        }
+        return new int[][]{offsets, targets};
+    }
+
+    /**
+     * BFS order over every component; with byDegree the roots are the
+     * lowest-degree unvisited vertices and neighbours are visited by
+     * ascending degree (Cuthill-McKee).
+     */
+    private static int[] bfsOrder(Graph graph, boolean byDegree) {
+        int n = graph.getVertexCount();
+        int[][] csr = undirectedCsr(graph);
+        int[] offsets = csr[0];
+        int[] targets = csr[1];
+
+        int[] roots = new int[n];
+        for (int i = 0; i < n; i++) {
+            roots[i] = i;
+        }
+        if (byDegree) {
+            roots = sortByKey(roots, v -> offsets[v + 1] - offsets[v]);
+            // Visit neighbours in ascending degree order
+            for (int u = 0; u < n; u++) {
+                int from = offsets[u];
+                int to = offsets[u + 1];
+                long[] keyed = new long[to - from];
+                for (int i = from; i < to; i++) {
+                    int v = targets[i];
+                    keyed[i - from] = ((long) (offsets[v + 1] - offsets[v]) << 32) | v;
+                }
+                Arrays.sort(keyed);
+                for (int i = from; i < to; i++) {
+                    targets[i] = (int) keyed[i - from];
+                }
+            }
+        }
+
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        int head = 0;
+        int tail = 0;
+        for (int root : roots) {
+            if (visited[root]) {
+                continue;
+            }
+            visited[root] = true;
+            order[tail++] = root;
+            while (head < tail) {
+                int u = order[head++];
+                for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                    int v = targets[i];
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        order[tail++] = v;
+                    }
+                }
+            }
+        }
+        return order;
+    }
+
+    private static int[] degreeOrder(Graph graph) {
+        int n = graph.getVertexCount();
+        int[] degree = new int[n];
+        for (int u = 0; u < n; u++) {
+            degree[u] += graph.getAdjacentEdges(u).size();
+            for (Graph.Edge e : graph.getAdjacentEdges(u)) {
+                degree[e.to]++;
+            }
+        }
+        int[] vertices = new int[n];
+        for (int i = 0; i < n; i++) {
+            vertices[i] = i;
+        }
+        // Highest degree first, ties by id
+        return sortByKey(vertices, v -> Integer.MAX_VALUE - degree[v]);
+    }
+
+    private static int[] topologicalOrder(Graph graph) {
+        int n = graph.getVertexCount();
+        int[] inDegree = new int[n];
+        for (int u = 0; u < n; u++) {
+            for (Graph.Edge e : graph.getAdjacentEdges(u)) {
+                inDegree[e.to]++;
+            }
+        }
+        int[] order = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int v = 0; v < n; v++) {
+            if (inDegree[v] == 0) {
+                order[tail++] = v;
+            }
+        }
+        while (head < tail) {
+            int u = order[head++];
+            for (Graph.Edge e : graph.getAdjacentEdges(u)) {
+                if (--inDegree[e.to] == 0) {
+                    order[tail++] = e.to;
+                }
+            }
+        }
+        if (tail != n) {
+            throw new IllegalArgumentException("Graph contains a cycle - not a DAG");
+        }
+        return order;
+    }
+
+    private interface IntKey {
+        int of(int v);
+    }
+
+    /**
+     * Stable sort of vertices by a non-negative int key.
+     */
+    private static int[] sortByKey(int[] vertices, IntKey key) {
+        long[] keyed = new long[vertices.length];
+        for (int i = 0; i < vertices.length; i++) {
+            keyed[i] = ((long) key.of(vertices[i]) << 32) | vertices[i];
+        }
+        Arrays.sort(keyed);
+        int[] result = new int[vertices.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (int) keyed[i];
+        }
+        return result;
+    }
+
+    private static void reverse(int[] a) {
+        for (int i = 0, j = a.length - 1; i < j; i++, j--) {
+            int t = a[i];
+            a[i] = a[j];
+            a[j] = t;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package org.example.graph.dagsp;
+
+import org.example.graph.common.AlgorithmPhaseEvent;
+import org.example.graph.common.EdgeCursor;
+import org.example.graph.common.GraphView;
+import org.example.graph.common.Metrics;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.topo.KahnTopologicalSort;
+
+import java.util.*;
+
+/**
+ * Critical Path Method (CPM) over a DAG.
+ * Vertices are tasks; an edge (u, v, w) means v may start w time units
+ * after u starts. Every task may start at time 0 and must start by the
+ * project end at the latest.
+ *
+ * One forward sweep over a topological order computes earliest starts,
+ * one backward sweep over the same order computes latest starts; slack
+ * and the critical activities follow directly.
+ * Time complexity: O(V + E)
+ * Space complexity: O(V)
+ */
+public class CriticalPathMethod {
+    private final GraphView graph;
+    private final Metrics metrics;
+
+    /**
+     * Constructs CriticalPathMethod with a graph and metrics tracker.
+     * @param graph the input DAG
+     * @param metrics metrics tracker
+     */
+    public CriticalPathMethod(GraphView graph, Metrics metrics) {
+        if (!graph.isDirected()) {
+            throw new IllegalArgumentException("Critical path method requires directed graph");
+        }
+        this.graph = graph;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Result of a CPM analysis.
+     */
+    public static class Schedule {
+        public final int[] earliestStart;
+        public final int[] latestStart;
+        public final int[] slack;          // total float: latestStart - earliestStart
+        public final int projectLength;
+        public final int[] criticalFrom;   // critical edges as parallel arrays
+        public final int[] criticalTo;
+
+        public Schedule(int[] earliestStart, int[] latestStart, int[] slack, int projectLength,
+                        int[] criticalFrom, int[] criticalTo) {
+            this.earliestStart = earliestStart;
+            this.latestStart = latestStart;
+            this.slack = slack;
+            this.projectLength = projectLength;
+            this.criticalFrom = criticalFrom;
+            this.criticalTo = criticalTo;
+        }
+
+        /**
+         * Checks whether a task has no slack.
+         * @param v vertex
+         * @return true if the task is critical
+         */
+        public boolean isCritical(int v) {
+            return slack[v] == 0;
+        }
+
+        /**
+         * Gets the number of critical edges.
+         * @return critical edge count
+         */
+        public int getCriticalEdgeCount() {
+            return criticalFrom.length;
+        }
+    }
+
+    /**
+     * Runs the forward and backward passes.
+     * @return schedule for every vertex, or null for an empty graph
+     */
+    public Schedule compute() {
+        int n = graph.getVertexCount();
+        if (n == 0) {
+            return null;
+        }
+
+        int[] order = new KahnTopologicalSort(graph, new MetricsImpl()).sortToArray();
+        if (order == null) {
+            throw new IllegalArgumentException("Graph contains a cycle - not a DAG");
+        }
+
+        metrics.startTimer();
+        EdgeCursor edges = graph.newCursor();
+
+        // Forward pass: earliest start
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("CPM", "forward", n);
+        int[] earliest = new int[n];
+        int projectLength = 0;
+        long relaxations = 0;
+        for (int u : order) {
+            int eu = earliest[u];
+            projectLength = Math.max(projectLength, eu);
+            edges.reset(u);
+            while (edges.next()) {
+                int v = edges.target();
+                int candidate = eu + edges.weight();
+                if (candidate > earliest[v]) {
+                    earliest[v] = candidate;
+                }
+                relaxations++;
+            }
+        }
+        phase.end(relaxations);
+
+        // Backward pass: latest start
+        phase = AlgorithmPhaseEvent.begin("CPM", "backward", n);
+        int[] latest = new int[n];
+        for (int i = n - 1; i >= 0; i--) {
+            int u = order[i];
+            int lu = projectLength;
+            edges.reset(u);
+            while (edges.next()) {
+                lu = Math.min(lu, latest[edges.target()] - edges.weight());
+            }
+            latest[u] = lu;
+        }
+        phase.end(relaxations);
+
+        // Slack and critical edges
+        int[] slack = new int[n];
+        for (int v = 0; v < n; v++) {
+            slack[v] = latest[v] - earliest[v];
+        }
+
+        int criticalCount = 0;
+        for (int u = 0; u < n; u++) {
+            edges.reset(u);
+            while (edges.next()) {
+                if (isCriticalEdge(earliest, latest, u, edges.target(), edges.weight())) {
+                    criticalCount++;
+                }
+            }
+        }
+        int[] criticalFrom = new int[criticalCount];
+        int[] criticalTo = new int[criticalCount];
+        int k = 0;
+        for (int u = 0; u < n; u++) {
+            edges.reset(u);
+            while (edges.next()) {
+                if (isCriticalEdge(earliest, latest, u, edges.target(), edges.weight())) {
+                    criticalFrom[k] = u;
+                    criticalTo[k++] = edges.target();
+                }
+            }
+        }
+
+        metrics.stopTimer();
+        metrics.incrementCounter("relaxations", (int) (2 * relaxations));
+        metrics.incrementCounter("critical_edges", criticalCount);
+
+        return new Schedule(earliest, latest, slack, projectLength, criticalFrom, criticalTo);
+    }
+
+    /**
+     * An edge is critical if delaying it by any amount delays the project.
+     */
+    private static boolean isCriticalEdge(int[] earliest, int[] latest, int u, int v, int w) {
+        return earliest[u] == latest[u] && earliest[u] + w == latest[v] && earliest[v] == latest[v];
+    }
+
+    /**
+     * Extracts one critical path (a longest path of the DAG) from a schedule.
+     * @param schedule result of {@link #compute()}
+     * @return vertices of the path from a start task to a final task
+     */
+    public List<Integer> criticalPath(Schedule schedule) {
+        int n = graph.getVertexCount();
+        int u = -1;
+        for (int v = 0; v < n; v++) {
+            if (schedule.earliestStart[v] == 0 && schedule.slack[v] == 0) {
+                u = v;
+                break;
+            }
+        }
+
+        List<Integer> path = new ArrayList<>();
+        EdgeCursor edges = graph.newCursor();
+        while (u != -1) {
+            path.add(u);
+            if (schedule.earliestStart[u] == schedule.projectLength) {
+                break;
+            }
+            int next = -1;
+            edges.reset(u);
+            while (edges.next()) {
+                if (isCriticalEdge(schedule.earliestStart, schedule.latestStart, u, edges.target(), edges.weight())) {
+                    next = edges.target();
+                    break;
+                }
+            }
+            u = next;
+        }
+        return path;
+    }
+
+    /**
+     * Gets metrics for this execution.
+     * @return metrics object
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+}
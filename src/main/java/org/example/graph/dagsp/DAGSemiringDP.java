@@ -0,0 +1,458 @@
+package org.example.graph.dagsp;
+
+import org.example.graph.common.AlgorithmPhaseEvent;
+import org.example.graph.common.EdgeCursor;
+import org.example.graph.common.GraphView;
+import org.example.graph.common.Metrics;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.topo.KahnTopologicalSort;
+
+import java.util.*;
+
+/**
+ * Single-source dynamic programming over a DAG, parameterized by a semiring.
+ *
+ * value[source] = one, every other vertex starts at zero, and vertices are
+ * processed in topological order with
+ * value[v] = plus(value[v], times(value[u], w(u, v))). Shortest paths are
+ * (min, +), longest paths (max, +), bottleneck capacity (max, min), path
+ * counts (+, ignore weight) and most reliable paths (max, *).
+ *
+ * Kernels work on primitive arrays, so nothing is boxed. MIN_PLUS, MAX_PLUS
+ * and MAX_MIN share the int type, so a single int kernel would make its
+ * plus/times calls megamorphic once more than two of them are used. Each
+ * of them gets its own loop with the operations written inline instead, and
+ * DAGShortestPath runs on the min-plus and max-plus loops. The generic int,
+ * long and double kernels are left for other semirings.
+ * Time complexity: O(V + E)
+ */
+public class DAGSemiringDP {
+    /**
+     * Semiring over int values.
+     */
+    public interface IntSemiring {
+        /** @return value of unreached vertices, identity of plus */
+        int zero();
+        /** @return value of the source */
+        int one();
+        /** Combines two alternatives. */
+        int plus(int a, int b);
+        /** Extends a path value by an edge of the given weight. */
+        int times(int a, int weight);
+    }
+
+    /**
+     * Semiring over long values.
+     */
+    public interface LongSemiring {
+        /** @return value of unreached vertices, identity of plus */
+        long zero();
+        /** @return value of the source */
+        long one();
+        /** Combines two alternatives. */
+        long plus(long a, long b);
+        /** Extends a path value by an edge of the given weight. */
+        long times(long a, int weight);
+    }
+
+    /**
+     * Semiring over double values.
+     */
+    public interface DoubleSemiring {
+        /** @return value of unreached vertices, identity of plus */
+        double zero();
+        /** @return value of the source */
+        double one();
+        /** Combines two alternatives. */
+        double plus(double a, double b);
+        /** Extends a path value by an edge of the given weight. */
+        double times(double a, int weight);
+    }
+
+    /** Shortest path length (min, +); unreached is Integer.MAX_VALUE. */
+    public static final IntSemiring MIN_PLUS = new IntSemiring() {
+        public int zero() { return Integer.MAX_VALUE; }
+        public int one() { return 0; }
+        public int plus(int a, int b) { return Math.min(a, b); }
+        public int times(int a, int weight) { return a + weight; }
+    };
+
+    /** Longest path length (max, +); unreached is Integer.MIN_VALUE. */
+    public static final IntSemiring MAX_PLUS = new IntSemiring() {
+        public int zero() { return Integer.MIN_VALUE; }
+        public int one() { return 0; }
+        public int plus(int a, int b) { return Math.max(a, b); }
+        public int times(int a, int weight) { return a + weight; }
+    };
+
+    /** Widest path: largest achievable minimum edge weight (max, min). */
+    public static final IntSemiring MAX_MIN = new IntSemiring() {
+        public int zero() { return Integer.MIN_VALUE; }
+        public int one() { return Integer.MAX_VALUE; }
+        public int plus(int a, int b) { return Math.max(a, b); }
+        public int times(int a, int weight) { return Math.min(a, weight); }
+    };
+
+    /** Number of distinct paths, saturating at Long.MAX_VALUE. */
+    public static final LongSemiring PATH_COUNT = new LongSemiring() {
+        public long zero() { return 0; }
+        public long one() { return 1; }
+        public long plus(long a, long b) {
+            long sum = a + b;
+            return sum < 0 ? Long.MAX_VALUE : sum;
+        }
+        public long times(long a, int weight) { return a; }
+    };
+
+    /**
+     * Most reliable path: maximum product of edge success probabilities,
+     * where an edge of weight w succeeds with probability w / scale.
+     * @param scale weight of a certain edge (e.g. 100 for percentages)
+     * @return (max, *) semiring
+     */
+    public static DoubleSemiring reliability(double scale) {
+        return new DoubleSemiring() {
+            public double zero() { return 0.0; }
+            public double one() { return 1.0; }
+            public double plus(double a, double b) { return Math.max(a, b); }
+            public double times(double a, int weight) { return a * (weight / scale); }
+        };
+    }
+
+    private final GraphView graph;
+    private final Metrics metrics;
+    private int[] order;    // Kahn's order, computed on first query
+
+    /**
+     * Constructs DAGSemiringDP with a graph and metrics tracker.
+     * @param graph the input DAG
+     * @param metrics metrics tracker
+     */
+    public DAGSemiringDP(GraphView graph, Metrics metrics) {
+        if (!graph.isDirected()) {
+            throw new IllegalArgumentException("DAG dynamic programming requires directed graph");
+        }
+        this.graph = graph;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Solves an int semiring from a source.
+     * @param source source vertex
+     * @param semiring semiring
+     * @param parent output predecessor per vertex (-1 for none), or null; only meaningful for min/max semirings
+     * @return value per vertex
+     */
+    public int[] solve(int source, IntSemiring semiring, int[] parent) {
+        int[] topoOrder = topologicalOrder();
+        int[] value = new int[graph.getVertexCount()];
+        metrics.startTimer();
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("DAGSemiringDP", "relax-int", value.length);
+        long relaxations = relax(graph, graph.newCursor(), topoOrder, source, semiring, value, parent);
+        phase.end(relaxations);
+        metrics.stopTimer();
+        metrics.incrementCounter("relaxations", (int) relaxations);
+        return value;
+    }
+
+    /**
+     * Solves a long semiring from a source.
+     * @param source source vertex
+     * @param semiring semiring
+     * @return value per vertex
+     */
+    public long[] solve(int source, LongSemiring semiring) {
+        int[] topoOrder = topologicalOrder();
+        long[] value = new long[graph.getVertexCount()];
+        metrics.startTimer();
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("DAGSemiringDP", "relax-long", value.length);
+        long relaxations = relax(graph, graph.newCursor(), topoOrder, source, semiring, value);
+        phase.end(relaxations);
+        metrics.stopTimer();
+        metrics.incrementCounter("relaxations", (int) relaxations);
+        return value;
+    }
+
+    /**
+     * Solves a double semiring from a source.
+     * @param source source vertex
+     * @param semiring semiring
+     * @return value per vertex
+     */
+    public double[] solve(int source, DoubleSemiring semiring) {
+        int[] topoOrder = topologicalOrder();
+        double[] value = new double[graph.getVertexCount()];
+        metrics.startTimer();
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("DAGSemiringDP", "relax-double", value.length);
+        long relaxations = relax(graph, graph.newCursor(), topoOrder, source, semiring, value);
+        phase.end(relaxations);
+        metrics.stopTimer();
+        metrics.incrementCounter("relaxations", (int) relaxations);
+        return value;
+    }
+
+    /**
+     * Counts the distinct paths from a source to every vertex.
+     * @param source source vertex
+     * @return path counts (saturating at Long.MAX_VALUE)
+     */
+    public long[] countPaths(int source) {
+        return solve(source, PATH_COUNT);
+    }
+
+    /**
+     * Computes the widest (bottleneck) path capacity from a source.
+     * @param source source vertex
+     * @return capacity per vertex (Integer.MIN_VALUE if unreachable, Integer.MAX_VALUE for the source)
+     */
+    public int[] bottleneckCapacities(int source) {
+        return solve(source, MAX_MIN, null);
+    }
+
+    /**
+     * Gets Kahn's order, computing it on first use.
+     * @return topological order
+     */
+    private int[] topologicalOrder() {
+        if (order == null) {
+            AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("DAGSemiringDP", "topological-sort",
+                    graph.getVertexCount());
+            order = new KahnTopologicalSort(graph, new MetricsImpl()).sortToArray();
+            phase.end(graph.getVertexCount());
+            if (order == null) {
+                throw new IllegalArgumentException("Graph contains a cycle - not a DAG");
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Int kernel: initializes value/parent and relaxes every reached vertex in order.
+     * The built-in semirings run on their own loops.
+     * @param graph graph to walk
+     * @param edges cursor over graph
+     * @param order topological order (first n entries are used)
+     * @param source source vertex
+     * @param semiring semiring
+     * @param value output values, length at least n
+     * @param parent output parents, length at least n, or null
+     * @return number of relaxations
+     */
+    static long relax(GraphView graph, EdgeCursor edges, int[] order, int source, IntSemiring semiring,
+                      int[] value, int[] parent) {
+        if (semiring == MIN_PLUS) {
+            return relaxMinPlus(graph, edges, order, source, value, parent);
+        }
+        if (semiring == MAX_PLUS) {
+            return relaxMaxPlus(graph, edges, order, source, value, parent);
+        }
+        if (semiring == MAX_MIN) {
+            return relaxMaxMin(graph, edges, order, source, value, parent);
+        }
+        return relaxGeneric(graph, edges, order, source, semiring, value, parent);
+    }
+
+    /**
+     * (min, +) kernel.
+     */
+    private static long relaxMinPlus(GraphView graph, EdgeCursor edges, int[] order, int source,
+                                     int[] value, int[] parent) {
+        int n = graph.getVertexCount();
+        Arrays.fill(value, 0, n, Integer.MAX_VALUE);
+        if (parent != null) {
+            Arrays.fill(parent, 0, n, -1);
+        }
+        value[source] = 0;
+
+        long relaxations = 0;
+        for (int i = 0; i < n; i++) {
+            int u = order[i];
+            int du = value[u];
+            if (du == Integer.MAX_VALUE) {
+                continue;
+            }
+            edges.reset(u);
+            while (edges.next()) {
+                int v = edges.target();
+                int candidate = du + edges.weight();
+                relaxations++;
+                if (candidate < value[v]) {
+                    value[v] = candidate;
+                    if (parent != null) {
+                        parent[v] = u;
+                    }
+                }
+            }
+        }
+        return relaxations;
+    }
+
+    /**
+     * (max, +) kernel.
+     */
+    private static long relaxMaxPlus(GraphView graph, EdgeCursor edges, int[] order, int source,
+                                     int[] value, int[] parent) {
+        int n = graph.getVertexCount();
+        Arrays.fill(value, 0, n, Integer.MIN_VALUE);
+        if (parent != null) {
+            Arrays.fill(parent, 0, n, -1);
+        }
+        value[source] = 0;
+
+        long relaxations = 0;
+        for (int i = 0; i < n; i++) {
+            int u = order[i];
+            int du = value[u];
+            if (du == Integer.MIN_VALUE) {
+                continue;
+            }
+            edges.reset(u);
+            while (edges.next()) {
+                int v = edges.target();
+                int candidate = du + edges.weight();
+                relaxations++;
+                if (candidate > value[v]) {
+                    value[v] = candidate;
+                    if (parent != null) {
+                        parent[v] = u;
+                    }
+                }
+            }
+        }
+        return relaxations;
+    }
+
+    /**
+     * (max, min) kernel.
+     */
+    private static long relaxMaxMin(GraphView graph, EdgeCursor edges, int[] order, int source,
+                                    int[] value, int[] parent) {
+        int n = graph.getVertexCount();
+        Arrays.fill(value, 0, n, Integer.MIN_VALUE);
+        if (parent != null) {
+            Arrays.fill(parent, 0, n, -1);
+        }
+        value[source] = Integer.MAX_VALUE;
+
+        long relaxations = 0;
+        for (int i = 0; i < n; i++) {
+            int u = order[i];
+            int du = value[u];
+            if (du == Integer.MIN_VALUE) {
+                continue;
+            }
+            edges.reset(u);
+            while (edges.next()) {
+                int v = edges.target();
+                int candidate = Math.min(du, edges.weight());
+                relaxations++;
+                if (candidate > value[v]) {
+                    value[v] = candidate;
+                    if (parent != null) {
+                        parent[v] = u;
+                    }
+                }
+            }
+        }
+        return relaxations;
+    }
+
+    /**
+     * Int kernel for other semirings; see {@link #relax}.
+     */
+    private static long relaxGeneric(GraphView graph, EdgeCursor edges, int[] order, int source,
+                                     IntSemiring semiring, int[] value, int[] parent) {
+        int n = graph.getVertexCount();
+        int zero = semiring.zero();
+        Arrays.fill(value, 0, n, zero);
+        if (parent != null) {
+            Arrays.fill(parent, 0, n, -1);
+        }
+        value[source] = semiring.one();
+
+        long relaxations = 0;
+        for (int i = 0; i < n; i++) {
+            int u = order[i];
+            int du = value[u];
+            if (du == zero) {
+                continue;
+            }
+            edges.reset(u);
+            while (edges.next()) {
+                int v = edges.target();
+                int old = value[v];
+                int combined = semiring.plus(old, semiring.times(du, edges.weight()));
+                relaxations++;
+                if (combined != old) {
+                    value[v] = combined;
+                    if (parent != null) {
+                        parent[v] = u;
+                    }
+                }
+            }
+        }
+        return relaxations;
+    }
+
+    /**
+     * Long kernel; see the int kernel.
+     */
+    static long relax(GraphView graph, EdgeCursor edges, int[] order, int source, LongSemiring semiring,
+                      long[] value) {
+        int n = graph.getVertexCount();
+        long zero = semiring.zero();
+        Arrays.fill(value, 0, n, zero);
+        value[source] = semiring.one();
+
+        long relaxations = 0;
+        for (int i = 0; i < n; i++) {
+            int u = order[i];
+            long du = value[u];
+            if (du == zero) {
+                continue;
+            }
+            edges.reset(u);
+            while (edges.next()) {
+                int v = edges.target();
+                value[v] = semiring.plus(value[v], semiring.times(du, edges.weight()));
+                relaxations++;
+            }
+        }
+        return relaxations;
+    }
+
+    /**
+     * Double kernel; see the int kernel.
+     */
+    static long relax(GraphView graph, EdgeCursor edges, int[] order, int source, DoubleSemiring semiring,
+                      double[] value) {
+        int n = graph.getVertexCount();
+        double zero = semiring.zero();
+        Arrays.fill(value, 0, n, zero);
+        value[source] = semiring.one();
+
+        long relaxations = 0;
+        for (int i = 0; i < n; i++) {
+            int u = order[i];
+            double du = value[u];
+            if (du == zero) {
+                continue;
+            }
+            edges.reset(u);
+            while (edges.next()) {
+                int v = edges.target();
+                value[v] = semiring.plus(value[v], semiring.times(du, edges.weight()));
+                relaxations++;
+            }
+        }
+        return relaxations;
+    }
+
+    /**
+     * Gets metrics for this execution.
+     * @return metrics object
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+}
@@ -1,7 +1,13 @@
 package org.example.graph.dagsp;
 
+import org.example.graph.common.AlgorithmPhaseEvent;
+import org.example.graph.common.AlgorithmWorkspace;
+import org.example.graph.common.EdgeCursor;
 import org.example.graph.common.Graph;
+import org.example.graph.common.GraphView;
 import org.example.graph.common.Metrics;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.common.ReverseIndex;
 import org.example.graph.topo.KahnTopologicalSort;
 
 import java.util.*;
@@ -12,15 +18,17 @@ import java.util.*;
  * Time complexity: O(V + E)
  */
 public class DAGShortestPath {
-    private final Graph graph;
+    private final GraphView graph;
     private final Metrics metrics;
+    private KahnTopologicalSort workspaceSort; // reused by the *Into queries
+    private ReverseIndex predecessors;         // for point queries on non-Graph views
 
     /**
      * Constructs DAGShortestPath with a graph and metrics tracker.
      * @param graph the input DAG
      * @param metrics metrics tracker
      */
-    public DAGShortestPath(Graph graph, Metrics metrics) {
+    public DAGShortestPath(GraphView graph, Metrics metrics) {
         if (!graph.isDirected()) {
             throw new IllegalArgumentException("DAG shortest path requires directed graph");
         }
@@ -67,93 +75,265 @@ public class DAGShortestPath {
      * @return PathResult containing distances and parents
      */
     public PathResult shortestPaths(int source) {
+        return relax(source, DAGSemiringDP.MIN_PLUS, "relax-shortest");
+    }
+
+    /**
+     * Computes longest paths from a source vertex to all other vertices.
+     * @param source source vertex
+     * @return PathResult containing distances and parents
+     */
+    public PathResult longestPaths(int source) {
+        return relax(source, DAGSemiringDP.MAX_PLUS, "relax-longest");
+    }
+
+    /**
+     * Runs the (min, +) or (max, +) kernel over Kahn's order.
+     */
+    private PathResult relax(int source, DAGSemiringDP.IntSemiring semiring, String phaseName) {
         int n = graph.getVertexCount();
 
         // Get topological order
-        KahnTopologicalSort topoSort = new KahnTopologicalSort(graph, new org.example.graph.common.MetricsImpl());
-        List<Integer> topoOrder = topoSort.sort();
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("DAGShortestPath", "topological-sort", n);
+        int[] topoOrder = new KahnTopologicalSort(graph, new MetricsImpl()).sortToArray();
+        phase.end(n);
 
         if (topoOrder == null) {
             throw new IllegalArgumentException("Graph contains a cycle - not a DAG");
         }
 
-        // Initialize distances and parents
         int[] dist = new int[n];
         int[] parent = new int[n];
-        Arrays.fill(dist, Integer.MAX_VALUE);
-        Arrays.fill(parent, -1);
-        dist[source] = 0;
 
         metrics.startTimer();
-
-        // Process vertices in topological order
-        for (int u : topoOrder) {
-            if (dist[u] != Integer.MAX_VALUE) {
-                for (Graph.Edge edge : graph.getAdjacentEdges(u)) {
-                    int v = edge.to;
-                    int newDist = dist[u] + edge.weight;
-
-                    metrics.incrementCounter("relaxations");
-
-                    if (newDist < dist[v]) {
-                        dist[v] = newDist;
-                        parent[v] = u;
-                    }
-                }
-            }
-        }
-
+        phase = AlgorithmPhaseEvent.begin("DAGShortestPath", phaseName, n);
+        long relaxations = DAGSemiringDP.relax(graph, graph.newCursor(), topoOrder, source, semiring, dist, parent);
+        phase.end(relaxations);
         metrics.stopTimer();
+        metrics.incrementCounter("relaxations", (int) relaxations);
 
         return new PathResult(dist, parent, source);
     }
 
     /**
-     * Computes longest paths from a source vertex to all other vertices.
-     * Uses negated weights to find longest path.
+     * Computes shortest paths into caller-owned arrays, taking the topological
+     * order and cursors from a workspace. Allocates nothing once the workspace
+     * has grown to the graph size, so it suits tight query loops.
      * @param source source vertex
-     * @return PathResult containing distances and parents
+     * @param dist output distances (Integer.MAX_VALUE if unreachable), length at least n
+     * @param parent output parents (-1 for none), length at least n
+     * @param workspace reusable workspace
      */
-    public PathResult longestPaths(int source) {
-        int n = graph.getVertexCount();
+    public void shortestPathsInto(int source, int[] dist, int[] parent, AlgorithmWorkspace workspace) {
+        relaxInto(source, dist, parent, workspace, false);
+    }
 
-        // Get topological order
-        KahnTopologicalSort topoSort = new KahnTopologicalSort(graph, new org.example.graph.common.MetricsImpl());
-        List<Integer> topoOrder = topoSort.sort();
+    /**
+     * Computes longest paths into caller-owned arrays, taking the topological
+     * order and cursors from a workspace.
+     * @param source source vertex
+     * @param dist output distances (Integer.MIN_VALUE if unreachable), length at least n
+     * @param parent output parents (-1 for none), length at least n
+     * @param workspace reusable workspace
+     */
+    public void longestPathsInto(int source, int[] dist, int[] parent, AlgorithmWorkspace workspace) {
+        relaxInto(source, dist, parent, workspace, true);
+    }
 
-        if (topoOrder == null) {
+    private void relaxInto(int source, int[] dist, int[] parent, AlgorithmWorkspace workspace, boolean longest) {
+        int n = graph.getVertexCount();
+        workspace.ensureCapacity(n);
+        int[] order = workspace.intArray(1);
+        if (workspaceSort == null) {
+            workspaceSort = new KahnTopologicalSort(graph, new MetricsImpl());
+        }
+        if (!workspaceSort.sortInto(order, workspace)) {
             throw new IllegalArgumentException("Graph contains a cycle - not a DAG");
         }
 
-        // Initialize distances and parents
-        int[] dist = new int[n];
-        int[] parent = new int[n];
-        Arrays.fill(dist, Integer.MIN_VALUE);
-        Arrays.fill(parent, -1);
-        dist[source] = 0;
-
         metrics.startTimer();
+        long relaxations = DAGSemiringDP.relax(graph, workspace.cursor(graph, 0), order, source,
+                longest ? DAGSemiringDP.MAX_PLUS : DAGSemiringDP.MIN_PLUS, dist, parent);
+        metrics.stopTimer();
+        metrics.incrementCounter("relaxations", (int) relaxations);
+    }
 
-        // Process vertices in topological order (maximize distance)
-        for (int u : topoOrder) {
-            if (dist[u] != Integer.MIN_VALUE) {
-                for (Graph.Edge edge : graph.getAdjacentEdges(u)) {
-                    int v = edge.to;
-                    int newDist = dist[u] + edge.weight;
+    /**
+     * Result of a single source-to-target query.
+     */
+    public static class PointToPointResult {
+        public final List<Integer> path;
+        public final int distance;
+        public final int verticesTouched;  // vertices reachable from the source
 
-                    metrics.incrementCounter("relaxations");
+        public PointToPointResult(List<Integer> path, int distance, int verticesTouched) {
+            this.path = path;
+            this.distance = distance;
+            this.verticesTouched = verticesTouched;
+        }
+    }
 
-                    if (newDist > dist[v]) {
-                        dist[v] = newDist;
-                        parent[v] = u;
-                    }
+    /**
+     * Computes one shortest path from source to target.
+     * Only vertices reachable from the source are visited, only those that
+     * also reach the target are relaxed, and relaxation stops at the target.
+     * @param source source vertex
+     * @param target target vertex
+     * @return path and distance, or null if target is unreachable
+     */
+    public PointToPointResult shortestPath(int source, int target) {
+        return pointToPoint(source, target, false, AlgorithmWorkspace.forCurrentThread());
+    }
+
+    /**
+     * Computes one longest path from source to target, with the same pruning
+     * as {@link #shortestPath(int, int)}.
+     * @param source source vertex
+     * @param target target vertex
+     * @return path and distance, or null if target is unreachable
+     */
+    public PointToPointResult longestPath(int source, int target) {
+        return pointToPoint(source, target, true, AlgorithmWorkspace.forCurrentThread());
+    }
+
+    /**
+     * Point-to-point query using workspace slots 0-3 (dist, parent,
+     * in-degree, stack/queue). parent is -2 for vertices that are reachable
+     * from the source but cannot reach the target.
+     */
+    private PointToPointResult pointToPoint(int source, int target, boolean longest, AlgorithmWorkspace workspace) {
+        int n = graph.getVertexCount();
+        workspace.ensureCapacity(n);
+        int[] dist = workspace.intArray(0);
+        int[] parent = workspace.intArray(1);
+        int[] inDegree = workspace.intArray(2);
+        int[] stack = workspace.intArray(3);
+        int unreached = longest ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+
+        metrics.startTimer();
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("DAGShortestPath", "forward-reach", n);
+
+        // 1. Forward reachability from the source (epoch marks)
+        workspace.newEpoch();
+        workspace.mark(source);
+        parent[source] = -2;
+        stack[0] = source;
+        int top = 1;
+        int forward = 1;
+        EdgeCursor edges = graph.newCursor();
+        while (top > 0) {
+            int u = stack[--top];
+            edges.reset(u);
+            while (edges.next()) {
+                int v = edges.target();
+                if (!workspace.isMarked(v)) {
+                    workspace.mark(v);
+                    parent[v] = -2;
+                    stack[top++] = v;
+                    forward++;
                 }
             }
         }
+        phase.end(forward);
+        if (!workspace.isMarked(target)) {
+            metrics.stopTimer();
+            metrics.incrementCounter("vertices_touched", forward);
+            return null;
+        }
 
+        // 2. Backward reachability from the target inside the forward set;
+        //    count in-degrees of the relevant subgraph on the way
+        phase = AlgorithmPhaseEvent.begin("DAGShortestPath", "backward-reach", forward);
+        ReverseIndex reverse = reverseIndex();
+        join(target, dist, parent, inDegree, unreached);
+        stack[0] = target;
+        top = 1;
+        int relevant = 1;
+        while (top > 0) {
+            int v = stack[--top];
+            int degree = reverse.getInDegree(v);
+            for (int k = 0; k < degree; k++) {
+                int u = reverse.getSource(v, k);
+                if (!workspace.isMarked(u)) {
+                    continue; // not reachable from the source
+                }
+                inDegree[v]++;
+                if (parent[u] == -2) {
+                    join(u, dist, parent, inDegree, unreached);
+                    stack[top++] = u;
+                    relevant++;
+                }
+            }
+        }
+        phase.end(relevant);
+
+        // 3. Kahn over the relevant subgraph from the source, stopping at the target
+        phase = AlgorithmPhaseEvent.begin("DAGShortestPath", longest ? "relax-longest" : "relax-shortest", relevant);
+        dist[source] = 0;
+        int head = 0;
+        int tail = 0;
+        stack[tail++] = source;
+        long relaxations = 0;
+        boolean reachedTarget = false;
+        while (head < tail) {
+            int u = stack[head++];
+            if (u == target) {
+                reachedTarget = true;
+                break;
+            }
+            int du = dist[u];
+            edges.reset(u);
+            while (edges.next()) {
+                int v = edges.target();
+                if (!workspace.isMarked(v) || parent[v] == -2) {
+                    continue; // cannot reach the target
+                }
+                relaxations++;
+                int candidate = du + edges.weight();
+                if (longest ? candidate > dist[v] : candidate < dist[v]) {
+                    dist[v] = candidate;
+                    parent[v] = u;
+                }
+                if (--inDegree[v] == 0) {
+                    stack[tail++] = v;
+                }
+            }
+        }
+        phase.end(relaxations);
         metrics.stopTimer();
+        metrics.incrementCounter("vertices_touched", forward);
+        metrics.incrementCounter("relaxations", (int) relaxations);
 
-        return new PathResult(dist, parent, source);
+        if (!reachedTarget) {
+            throw new IllegalArgumentException("Graph contains a cycle - not a DAG");
+        }
+
+        List<Integer> path = new ArrayList<>();
+        for (int v = target; v != -1; v = parent[v]) {
+            path.add(v);
+        }
+        Collections.reverse(path);
+        return new PointToPointResult(path, dist[target], forward);
+    }
+
+    /**
+     * Adds a vertex to the relevant subgraph (reachable from the source and
+     * reaching the target).
+     */
+    private static void join(int v, int[] dist, int[] parent, int[] inDegree, int unreached) {
+        dist[v] = unreached;
+        parent[v] = -1;
+        inDegree[v] = 0;
+    }
+
+    private ReverseIndex reverseIndex() {
+        if (graph instanceof Graph) {
+            return ((Graph) graph).getReverseIndex();
+        }
+        if (predecessors == null) {
+            predecessors = ReverseIndex.build(graph);
+        }
+        return predecessors;
     }
 
     /**
@@ -161,30 +341,13 @@ public class DAGShortestPath {
      * @return PathResult for the critical path
      */
     public CriticalPathResult findCriticalPath() {
-        int n = graph.getVertexCount();
-        int maxDist = Integer.MIN_VALUE;
-        int criticalEnd = -1;
-        PathResult bestResult = null;
-
-        // Try each vertex as a potential start of critical path
-        for (int source = 0; source < n; source++) {
-            PathResult result = longestPaths(source);
-
-            for (int dest = 0; dest < n; dest++) {
-                if (result.dist[dest] != Integer.MIN_VALUE && result.dist[dest] > maxDist) {
-                    maxDist = result.dist[dest];
-                    criticalEnd = dest;
-                    bestResult = result;
-                }
-            }
-        }
-
-        if (bestResult == null) {
+        // One CPM forward/backward sweep instead of a longest-path run per source
+        CriticalPathMethod cpm = new CriticalPathMethod(graph, metrics);
+        CriticalPathMethod.Schedule schedule = cpm.compute();
+        if (schedule == null) {
             return null;
         }
-
-        List<Integer> criticalPath = bestResult.reconstructPath(criticalEnd);
-        return new CriticalPathResult(criticalPath, maxDist);
+        return new CriticalPathResult(cpm.criticalPath(schedule), schedule.projectLength);
     }
 
     /**
@@ -0,0 +1,324 @@
+package org.example.graph.dagsp;
+
+import org.example.graph.common.AlgorithmPhaseEvent;
+import org.example.graph.common.EdgeCursor;
+import org.example.graph.common.Graph;
+import org.example.graph.common.GraphView;
+import org.example.graph.common.Metrics;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.common.ReverseIndex;
+import org.example.graph.topo.KahnTopologicalSort;
+
+import java.util.*;
+
+/**
+ * Dominator and post-dominator trees (Cooper-Harvey-Kennedy).
+ *
+ * A vertex d dominates v if every path from the root to v passes through d;
+ * the dominators of a task are its single points of failure. Immediate
+ * dominators are found by intersecting the dominator-tree paths of all
+ * processed predecessors. On a DAG, Kahn's order puts every predecessor
+ * first, so one pass suffices; on cyclic graphs the pass runs in reverse
+ * postorder until nothing changes. Post-dominators are dominators of the
+ * reversed graph, read through the reverse index.
+ *
+ * Everything is kept in int arrays; the result answers dominance queries in
+ * O(1) from pre-order intervals of the tree.
+ * Time complexity: O(V + E) per pass, one pass for DAGs
+ */
+public class DominatorTree {
+    private final GraphView graph;
+    private final Metrics metrics;
+
+    // Computed on first query
+    private ReverseIndex predecessors;
+    private int[] topoOrder;        // Kahn's order, or null if the graph is cyclic
+    private boolean prepared;
+
+    /**
+     * Constructs DominatorTree with a graph and metrics tracker.
+     * @param graph the input directed graph
+     * @param metrics metrics tracker
+     */
+    public DominatorTree(GraphView graph, Metrics metrics) {
+        if (!graph.isDirected()) {
+            throw new IllegalArgumentException("Dominator tree requires directed graph");
+        }
+        this.graph = graph;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Immediate dominators of the vertices reachable from a root.
+     */
+    public static class Result {
+        public final int root;
+        public final int[] idom;    // immediate dominator, -1 for the root and unreachable vertices
+        private final int[] pre;    // pre-order number in the tree, -1 if unreachable
+        private final int[] size;   // subtree size
+
+        public Result(int root, int[] idom, int[] pre, int[] size) {
+            this.root = root;
+            this.idom = idom;
+            this.pre = pre;
+            this.size = size;
+        }
+
+        /**
+         * Checks whether a vertex is reachable from the root.
+         * @param v vertex
+         * @return true if reachable
+         */
+        public boolean isReachable(int v) {
+            return pre[v] >= 0;
+        }
+
+        /**
+         * Checks whether a dominates b (every vertex dominates itself).
+         * @param a candidate dominator
+         * @param b vertex
+         * @return true if every path from the root to b passes through a
+         */
+        public boolean dominates(int a, int b) {
+            return pre[a] >= 0 && pre[b] >= 0 && pre[a] <= pre[b] && pre[b] < pre[a] + size[a];
+        }
+
+        /**
+         * Gets all dominators of a vertex, from the vertex up to the root.
+         * @param v vertex
+         * @return dominator chain, empty if v is unreachable
+         */
+        public int[] getDominators(int v) {
+            if (pre[v] < 0) {
+                return new int[0];
+            }
+            int count = 0;
+            for (int d = v; d != -1; d = idom[d]) {
+                count++;
+            }
+            int[] chain = new int[count];
+            int i = 0;
+            for (int d = v; d != -1; d = idom[d]) {
+                chain[i++] = d;
+            }
+            return chain;
+        }
+
+        /**
+         * Gets the number of vertices dominated by v, including v itself.
+         * @param v vertex
+         * @return dominated vertex count, 0 if v is unreachable
+         */
+        public int getDominatedCount(int v) {
+            return pre[v] >= 0 ? size[v] : 0;
+        }
+    }
+
+    /**
+     * Computes dominators: every path from the source to v passes through idom[v].
+     * @param source root vertex
+     * @return dominator tree
+     */
+    public Result dominators(int source) {
+        prepare();
+        return compute(source, graph, predecessors, topoOrder, false, "dominators");
+    }
+
+    /**
+     * Computes post-dominators: every path from v to the sink passes through idom[v].
+     * @param sink root vertex of the reversed graph
+     * @return post-dominator tree
+     */
+    public Result postDominators(int sink) {
+        prepare();
+        return compute(sink, predecessors, graph, topoOrder, true, "post-dominators");
+    }
+
+    /**
+     * Runs Cooper-Harvey-Kennedy on a forward view, using a backward view for predecessors.
+     */
+    private Result compute(int root, GraphView forward, GraphView backward, int[] topo, boolean reversed,
+                           String phaseName) {
+        int n = graph.getVertexCount();
+        metrics.startTimer();
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("DominatorTree", phaseName, n);
+
+        // Processing order: reachable vertices, every vertex after its dominators
+        int[] position = new int[n];
+        Arrays.fill(position, -1);
+        int[] order = topo != null
+                ? reachableInTopologicalOrder(root, forward, topo, reversed, position)
+                : reversePostorder(root, forward, position);
+        int reachable = order.length;
+
+        int[] idom = new int[n];
+        Arrays.fill(idom, -1);
+        idom[root] = root;
+        EdgeCursor preds = backward.newCursor();
+        long edgesScanned = 0;
+        int passes = 0;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            passes++;
+            for (int i = 1; i < reachable; i++) {
+                int v = order[i];
+                int newIdom = -1;
+                preds.reset(v);
+                while (preds.next()) {
+                    int p = preds.target();
+                    edgesScanned++;
+                    if (idom[p] == -1) {
+                        continue; // unreachable or not processed yet
+                    }
+                    newIdom = newIdom == -1 ? p : intersect(p, newIdom, idom, position);
+                }
+                if (idom[v] != newIdom) {
+                    idom[v] = newIdom;
+                    changed = true;
+                }
+            }
+            // In topological order every predecessor is final when it is read
+            if (topo != null) {
+                break;
+            }
+        }
+        idom[root] = -1;
+
+        // Subtree sizes bottom-up, then pre-order numbers top-down
+        int[] size = new int[n];
+        for (int i = reachable - 1; i >= 0; i--) {
+            int v = order[i];
+            size[v]++;
+            if (idom[v] != -1) {
+                size[idom[v]] += size[v];
+            }
+        }
+        int[] pre = new int[n];
+        int[] nextSlot = new int[n];
+        Arrays.fill(pre, -1);
+        for (int i = 0; i < reachable; i++) {
+            int v = order[i];
+            pre[v] = v == root ? 0 : nextSlot[idom[v]];
+            if (v != root) {
+                nextSlot[idom[v]] += size[v];
+            }
+            nextSlot[v] = pre[v] + 1;
+        }
+
+        phase.end(edgesScanned);
+        metrics.stopTimer();
+        metrics.incrementCounter("edges_scanned", (int) edgesScanned);
+        metrics.incrementCounter("passes", passes);
+
+        return new Result(root, idom, pre, size);
+    }
+
+    /**
+     * Walks up both dominator-tree paths until they meet; dominators come
+     * earlier in the processing order.
+     */
+    private static int intersect(int a, int b, int[] idom, int[] position) {
+        while (a != b) {
+            while (position[a] > position[b]) {
+                a = idom[a];
+            }
+            while (position[b] > position[a]) {
+                b = idom[b];
+            }
+        }
+        return a;
+    }
+
+    /**
+     * Filters a topological order (reversed for post-dominators) to the
+     * vertices reachable from the root, which all follow the root.
+     */
+    private int[] reachableInTopologicalOrder(int root, GraphView forward, int[] topo, boolean reversed,
+                                              int[] position) {
+        int n = topo.length;
+        boolean[] reached = new boolean[n];
+        reached[root] = true;
+        int[] order = new int[n];
+        int count = 0;
+        EdgeCursor edges = forward.newCursor();
+        for (int i = 0; i < n; i++) {
+            int u = reversed ? topo[n - 1 - i] : topo[i];
+            if (!reached[u]) {
+                continue;
+            }
+            position[u] = count;
+            order[count++] = u;
+            edges.reset(u);
+            while (edges.next()) {
+                reached[edges.target()] = true;
+            }
+        }
+        return Arrays.copyOf(order, count);
+    }
+
+    /**
+     * Iterative DFS from the root; returns reachable vertices in reverse postorder.
+     */
+    private int[] reversePostorder(int root, GraphView forward, int[] position) {
+        int n = forward.getVertexCount();
+        int[] stack = new int[n];
+        EdgeCursor[] cursors = new EdgeCursor[16];
+        boolean[] visited = new boolean[n];
+        int[] postorder = new int[n];
+        int count = 0;
+
+        int top = 0;
+        stack[0] = root;
+        cursors[0] = forward.newCursor();
+        cursors[0].reset(root);
+        visited[root] = true;
+        while (top >= 0) {
+            EdgeCursor edges = cursors[top];
+            if (edges.next()) {
+                int v = edges.target();
+                if (!visited[v]) {
+                    visited[v] = true;
+                    top++;
+                    if (top == cursors.length) {
+                        cursors = Arrays.copyOf(cursors, top * 2);
+                    }
+                    if (cursors[top] == null) {
+                        cursors[top] = forward.newCursor();
+                    }
+                    stack[top] = v;
+                    cursors[top].reset(v);
+                }
+            } else {
+                postorder[count++] = stack[top--];
+            }
+        }
+
+        int[] order = new int[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = postorder[count - 1 - i];
+            position[order[i]] = i;
+        }
+        return order;
+    }
+
+    /**
+     * Builds the reverse index and, for acyclic graphs, Kahn's order once.
+     */
+    private void prepare() {
+        if (prepared) {
+            return;
+        }
+        predecessors = graph instanceof Graph ? ((Graph) graph).getReverseIndex() : ReverseIndex.build(graph);
+        topoOrder = new KahnTopologicalSort(graph, new MetricsImpl()).sortToArray();
+        prepared = true;
+    }
+
+    /**
+     * Gets metrics for this execution.
+     * @return metrics object
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+}
@@ -0,0 +1,377 @@
+package org.example.graph.dagsp;
+
+import org.example.graph.common.AlgorithmPhaseEvent;
+import org.example.graph.common.Graph;
+import org.example.graph.common.Metrics;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.topo.KahnTopologicalSort;
+
+import java.util.*;
+
+/**
+ * Single-source shortest or longest paths on a DAG that are kept up to date
+ * while edges are inserted, deleted or reweighted.
+ * After each change only the descendants whose distance can change are
+ * recomputed, in topological order, by pulling from their predecessors.
+ * Edge insertions that violate the current topological order are handled
+ * with the Pearce-Kelly dynamic topological sort.
+ * Time per update: O(A log A + in-edges of A), where A is the affected set
+ */
+public class DynamicDAGPaths {
+
+    /**
+     * Optimization direction of the maintained paths.
+     */
+    public enum Mode {
+        SHORTEST, LONGEST
+    }
+
+    private final Graph graph;
+    private final Graph reverse;   // incoming edges, kept in sync with graph
+    private final Metrics metrics;
+    private final int source;
+    private final Mode mode;
+    private final int unreachable;
+
+    private final int[] dist;
+    private final int[] parent;
+    private final int[] order;     // topological position -> vertex
+    private final int[] pos;       // vertex -> topological position
+
+    // Scratch space reused across updates
+    private final int[] heap;      // min-heap of topological positions
+    private final boolean[] queued;
+    private final int[] mark;      // visit stamps for Pearce-Kelly searches
+    private final int[] searchStack;
+    private int stamp;
+
+    /**
+     * Constructs DynamicDAGPaths and computes the initial distances.
+     * The graph is modified in place by the update methods.
+     * @param graph the input DAG
+     * @param source source vertex
+     * @param mode shortest or longest paths
+     * @param metrics metrics tracker
+     */
+    public DynamicDAGPaths(Graph graph, int source, Mode mode, Metrics metrics) {
+        if (!graph.isDirected()) {
+            throw new IllegalArgumentException("DAG shortest path requires directed graph");
+        }
+        this.graph = graph;
+        this.metrics = metrics;
+        this.source = source;
+        this.mode = mode;
+        this.unreachable = mode == Mode.SHORTEST ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+
+        List<Integer> topoOrder = new KahnTopologicalSort(graph, new MetricsImpl()).sort();
+        if (topoOrder == null) {
+            throw new IllegalArgumentException("Graph contains a cycle - not a DAG");
+        }
+
+        int n = graph.getVertexCount();
+        this.order = new int[n];
+        this.pos = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = topoOrder.get(i);
+            pos[order[i]] = i;
+        }
+
+        DAGShortestPath dagSP = new DAGShortestPath(graph, new MetricsImpl());
+        DAGShortestPath.PathResult initial = mode == Mode.SHORTEST
+                ? dagSP.shortestPaths(source)
+                : dagSP.longestPaths(source);
+        this.dist = initial.dist;
+        this.parent = initial.parent;
+
+        this.reverse = graph.transpose();
+        this.heap = new int[n];
+        this.queued = new boolean[n];
+        this.mark = new int[n];
+        this.searchStack = new int[n];
+    }
+
+    /**
+     * Changes the weight of edge u -> v.
+     * @param u source vertex
+     * @param v destination vertex
+     * @param weight new weight
+     * @return vertices whose distance changed, in topological order
+     */
+    public int[] updateEdgeWeight(int u, int v, int weight) {
+        if (!graph.setEdgeWeight(u, v, weight)) {
+            throw new IllegalArgumentException("No edge " + u + " -> " + v);
+        }
+        reverse.setEdgeWeight(v, u, weight);
+        return propagateFrom(v);
+    }
+
+    /**
+     * Inserts edge u -> v.
+     * @param u source vertex
+     * @param v destination vertex
+     * @param weight edge weight
+     * @return vertices whose distance changed, in topological order
+     * @throws IllegalArgumentException if the edge would create a cycle
+     */
+    public int[] addEdge(int u, int v, int weight) {
+        if (u == v) {
+            throw new IllegalArgumentException("Edge " + u + " -> " + v + " would create a cycle");
+        }
+        if (pos[u] > pos[v]) {
+            reorder(u, v);
+        }
+        graph.addEdge(u, v, weight);
+        reverse.addEdge(v, u, weight);
+        return propagateFrom(v);
+    }
+
+    /**
+     * Deletes edge u -> v.
+     * @param u source vertex
+     * @param v destination vertex
+     * @return vertices whose distance changed, in topological order
+     */
+    public int[] removeEdge(int u, int v) {
+        if (!graph.removeEdge(u, v)) {
+            throw new IllegalArgumentException("No edge " + u + " -> " + v);
+        }
+        reverse.removeEdge(v, u);
+        return propagateFrom(v);
+    }
+
+    /**
+     * Recomputes v and every descendant whose distance changes as a result.
+     * @param start first vertex to recompute
+     * @return changed vertices in topological order
+     */
+    private int[] propagateFrom(int start) {
+        metrics.startTimer();
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("DynamicDAGPaths", "propagate", graph.getVertexCount());
+
+        int[] changed = new int[8];
+        int changedCount = 0;
+        int heapSize = 0;
+        long relaxations = 0;
+
+        heap[heapSize++] = pos[start];
+        queued[start] = true;
+
+        while (heapSize > 0) {
+            int p = heap[0];
+            heapSize = siftDown(heapSize);
+            int x = order[p];
+            queued[x] = false;
+
+            // Pull the best distance from all predecessors
+            int best = unreachable;
+            int bestParent = -1;
+            if (x == source) {
+                best = 0;
+            } else {
+                for (Graph.Edge in : reverse.getAdjacentEdges(x)) {
+                    int du = dist[in.to];
+                    relaxations++;
+                    if (du == unreachable) {
+                        continue;
+                    }
+                    int cand = du + in.weight;
+                    if (bestParent == -1 || improves(cand, best)) {
+                        best = cand;
+                        bestParent = in.to;
+                    }
+                }
+            }
+
+            parent[x] = bestParent;
+            if (best == dist[x]) {
+                continue;
+            }
+            dist[x] = best;
+
+            if (changedCount == changed.length) {
+                changed = Arrays.copyOf(changed, changedCount * 2);
+            }
+            changed[changedCount++] = x;
+
+            // Descendants may change too
+            for (Graph.Edge out : graph.getAdjacentEdges(x)) {
+                if (!queued[out.to]) {
+                    queued[out.to] = true;
+                    heapSize = siftUp(heapSize, pos[out.to]);
+                }
+            }
+        }
+
+        phase.end(relaxations);
+        metrics.stopTimer();
+        metrics.incrementCounter("relaxations", (int) relaxations);
+        metrics.incrementCounter("affected_vertices", changedCount);
+
+        return Arrays.copyOf(changed, changedCount);
+    }
+
+    private boolean improves(int cand, int best) {
+        return mode == Mode.SHORTEST ? cand < best : cand > best;
+    }
+
+    private int siftUp(int size, int value) {
+        int i = size;
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (heap[p] <= value) {
+                break;
+            }
+            heap[i] = heap[p];
+            i = p;
+        }
+        heap[i] = value;
+        return size + 1;
+    }
+
+    private int siftDown(int size) {
+        int last = heap[--size];
+        int i = 0;
+        while (true) {
+            int c = 2 * i + 1;
+            if (c >= size) {
+                break;
+            }
+            if (c + 1 < size && heap[c + 1] < heap[c]) {
+                c++;
+            }
+            if (heap[c] >= last) {
+                break;
+            }
+            heap[i] = heap[c];
+            i = c;
+        }
+        if (size > 0) {
+            heap[i] = last;
+        }
+        return size;
+    }
+
+    /**
+     * Restores a valid topological order before inserting u -> v
+     * when pos[u] > pos[v] (Pearce-Kelly).
+     */
+    private void reorder(int u, int v) {
+        int lower = pos[v];
+        int upper = pos[u];
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("DynamicDAGPaths", "reorder", upper - lower + 1);
+
+        // Forward search from v inside the affected window
+        stamp++;
+        int[] forward = search(v, graph, lower, upper, u);
+        if (forward == null) {
+            throw new IllegalArgumentException("Edge " + u + " -> " + v + " would create a cycle");
+        }
+        // Backward search from u inside the affected window
+        stamp++;
+        int[] backward = search(u, reverse, lower, upper, -1);
+
+        sortByPosition(forward);
+        sortByPosition(backward);
+
+        // Reuse the freed positions: first everything that reaches u, then everything reachable from v
+        int[] slots = new int[forward.length + backward.length];
+        int k = 0;
+        for (int x : backward) {
+            slots[k++] = pos[x];
+        }
+        for (int x : forward) {
+            slots[k++] = pos[x];
+        }
+        Arrays.sort(slots);
+
+        k = 0;
+        for (int x : backward) {
+            order[slots[k]] = x;
+            pos[x] = slots[k++];
+        }
+        for (int x : forward) {
+            order[slots[k]] = x;
+            pos[x] = slots[k++];
+        }
+        phase.end(slots.length);
+        metrics.incrementCounter("reorders");
+    }
+
+    /**
+     * Depth-first search restricted to positions in [lower, upper].
+     * @param start start vertex
+     * @param g graph to follow (forward or reverse)
+     * @param forbidden vertex that must not be reached, or -1
+     * @return visited vertices, or null if forbidden was reached
+     */
+    private int[] search(int start, Graph g, int lower, int upper, int forbidden) {
+        int[] visited = new int[8];
+        int count = 0;
+        int top = 0;
+        searchStack[top++] = start;
+        mark[start] = stamp;
+
+        while (top > 0) {
+            int x = searchStack[--top];
+            if (count == visited.length) {
+                visited = Arrays.copyOf(visited, count * 2);
+            }
+            visited[count++] = x;
+
+            for (Graph.Edge e : g.getAdjacentEdges(x)) {
+                int y = e.to;
+                if (y == forbidden) {
+                    return null;
+                }
+                if (mark[y] != stamp && pos[y] >= lower && pos[y] <= upper) {
+                    mark[y] = stamp;
+                    searchStack[top++] = y;
+                }
+            }
+        }
+        return Arrays.copyOf(visited, count);
+    }
+
+    private void sortByPosition(int[] vertices) {
+        for (int i = 0; i < vertices.length; i++) {
+            vertices[i] = pos[vertices[i]];
+        }
+        Arrays.sort(vertices);
+        for (int i = 0; i < vertices.length; i++) {
+            vertices[i] = order[vertices[i]];
+        }
+    }
+
+    /**
+     * Gets the current distance to a vertex.
+     * @param v vertex
+     * @return distance, or Integer.MAX_VALUE / Integer.MIN_VALUE if unreachable
+     */
+    public int getDistance(int v) {
+        return dist[v];
+    }
+
+    /**
+     * Gets a snapshot of the current distances and parents.
+     * @return PathResult copy that is not affected by later updates
+     */
+    public DAGShortestPath.PathResult getResult() {
+        return new DAGShortestPath.PathResult(dist.clone(), parent.clone(), source);
+    }
+
+    /**
+     * Gets the current topological order maintained by this structure.
+     * @return copy of the order
+     */
+    public int[] getTopologicalOrder() {
+        return order.clone();
+    }
+
+    /**
+     * Gets metrics for this execution.
+     * @return metrics object
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+}
@@ -0,0 +1,248 @@
+package org.example.graph.dagsp;
+
+import org.example.graph.common.AlgorithmPhaseEvent;
+import org.example.graph.common.EdgeCursor;
+import org.example.graph.common.Graph;
+import org.example.graph.common.GraphView;
+import org.example.graph.common.Metrics;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.common.ReverseIndex;
+import org.example.graph.topo.KahnTopologicalSort;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Wavefront-parallel shortest and longest paths for DAGs.
+ *
+ * Vertices are grouped into topological levels (level = length of the
+ * longest edge chain reaching the vertex). All vertices of a level depend
+ * only on earlier levels, so a level is processed by ForkJoin tasks in
+ * parallel: each vertex pulls from its predecessors through the reverse
+ * index and writes only its own dist/parent entry, with no atomics.
+ *
+ * Ties between equally good predecessors go to the one earliest in Kahn's
+ * order, so the PathResult is identical to {@link DAGShortestPath}'s.
+ * Levels, predecessors and the order are computed once per instance and
+ * reused by every query.
+ * Time complexity: O(V + E) work, O(L) parallel steps for L levels
+ */
+public class ParallelDAGPaths {
+    private static final int GRAIN = 512;
+
+    private final GraphView graph;
+    private final ForkJoinPool pool;
+    private final Metrics metrics;
+
+    // Computed on first query
+    private ReverseIndex predecessors;
+    private int[] topoPosition;     // index of each vertex in Kahn's order
+    private int[] level;            // level of each vertex
+    private int[] levelOffsets;     // start of each level in levelVertices
+    private int[] levelVertices;    // vertices grouped by level, in Kahn's order
+
+    /**
+     * Constructs ParallelDAGPaths running on the common ForkJoin pool.
+     * @param graph the input DAG
+     * @param metrics metrics tracker
+     */
+    public ParallelDAGPaths(GraphView graph, Metrics metrics) {
+        this(graph, ForkJoinPool.commonPool(), metrics);
+    }
+
+    /**
+     * Constructs ParallelDAGPaths running on a given ForkJoin pool.
+     * @param graph the input DAG
+     * @param pool pool for the level tasks
+     * @param metrics metrics tracker
+     */
+    public ParallelDAGPaths(GraphView graph, ForkJoinPool pool, Metrics metrics) {
+        if (!graph.isDirected()) {
+            throw new IllegalArgumentException("DAG shortest path requires directed graph");
+        }
+        this.graph = graph;
+        this.pool = pool;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Computes shortest paths from a source vertex to all other vertices.
+     * @param source source vertex
+     * @return PathResult containing distances and parents
+     */
+    public DAGShortestPath.PathResult shortestPaths(int source) {
+        return relax(source, false);
+    }
+
+    /**
+     * Computes longest paths from a source vertex to all other vertices.
+     * @param source source vertex
+     * @return PathResult containing distances and parents
+     */
+    public DAGShortestPath.PathResult longestPaths(int source) {
+        return relax(source, true);
+    }
+
+    /**
+     * Gets the number of topological levels (the parallel step count).
+     * @return level count
+     */
+    public int getLevelCount() {
+        prepare();
+        return levelOffsets.length - 1;
+    }
+
+    private DAGShortestPath.PathResult relax(int source, boolean longest) {
+        prepare();
+        int n = graph.getVertexCount();
+        int unreached = longest ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        int[] dist = new int[n];
+        int[] parent = new int[n];
+        Arrays.fill(dist, unreached);
+        Arrays.fill(parent, -1);
+        dist[source] = 0;
+
+        metrics.startTimer();
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("ParallelDAGPaths",
+                longest ? "relax-longest" : "relax-shortest", n);
+        long relaxations = 0;
+        int levels = levelOffsets.length - 1;
+
+        // Levels before the source's level cannot be reached from it
+        for (int l = level[source] + 1; l < levels; l++) {
+            LevelTask task = new LevelTask(levelOffsets[l], levelOffsets[l + 1], dist, parent, longest, unreached);
+            relaxations += levelOffsets[l + 1] - levelOffsets[l] <= GRAIN ? task.compute() : pool.invoke(task);
+        }
+
+        phase.end(relaxations);
+        metrics.stopTimer();
+        metrics.incrementCounter("relaxations", (int) relaxations);
+        metrics.incrementCounter("levels", levels);
+
+        return new DAGShortestPath.PathResult(dist, parent, source);
+    }
+
+    /**
+     * Pull-relaxes a range of one level's vertices; splits large ranges.
+     */
+    @SuppressWarnings("serial")
+    private class LevelTask extends RecursiveTask<Long> {
+        private final int from;
+        private final int to;
+        private final int[] dist;
+        private final int[] parent;
+        private final boolean longest;
+        private final int unreached;
+
+        LevelTask(int from, int to, int[] dist, int[] parent, boolean longest, int unreached) {
+            this.from = from;
+            this.to = to;
+            this.dist = dist;
+            this.parent = parent;
+            this.longest = longest;
+            this.unreached = unreached;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from > GRAIN) {
+                int mid = (from + to) >>> 1;
+                LevelTask left = new LevelTask(from, mid, dist, parent, longest, unreached);
+                left.fork();
+                long right = new LevelTask(mid, to, dist, parent, longest, unreached).compute();
+                return right + left.join();
+            }
+
+            long relaxations = 0;
+            for (int i = from; i < to; i++) {
+                int v = levelVertices[i];
+                int best = dist[v];
+                int bestParent = parent[v];
+                int bestPosition = Integer.MAX_VALUE;
+                int inDegree = predecessors.getInDegree(v);
+                for (int k = 0; k < inDegree; k++) {
+                    int u = predecessors.getSource(v, k);
+                    int du = dist[u];
+                    if (du == unreached) {
+                        continue;
+                    }
+                    relaxations++;
+                    int candidate = du + predecessors.getWeight(v, k);
+                    boolean better = longest ? candidate > best : candidate < best;
+                    if (better || (candidate == best && bestParent != -1 && topoPosition[u] < bestPosition)) {
+                        best = candidate;
+                        bestParent = u;
+                        bestPosition = topoPosition[u];
+                    }
+                }
+                dist[v] = best;
+                parent[v] = bestParent;
+            }
+            return relaxations;
+        }
+    }
+
+    /**
+     * Computes Kahn's order, levels and the reverse index once.
+     */
+    private void prepare() {
+        if (levelOffsets != null) {
+            return;
+        }
+        int n = graph.getVertexCount();
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("ParallelDAGPaths", "levels", n);
+
+        int[] order = new KahnTopologicalSort(graph, new MetricsImpl()).sortToArray();
+        if (order == null) {
+            throw new IllegalArgumentException("Graph contains a cycle - not a DAG");
+        }
+
+        int[] position = new int[n];
+        int[] vertexLevel = new int[n];
+        int levels = n == 0 ? 0 : 1;
+        EdgeCursor edges = graph.newCursor();
+        for (int i = 0; i < n; i++) {
+            int u = order[i];
+            position[u] = i;
+            int next = vertexLevel[u] + 1;
+            edges.reset(u);
+            while (edges.next()) {
+                int v = edges.target();
+                if (vertexLevel[v] < next) {
+                    vertexLevel[v] = next;
+                    levels = Math.max(levels, next + 1);
+                }
+            }
+        }
+
+        // Counting sort by level, stable so each level stays in Kahn's order
+        int[] offsets = new int[levels + 1];
+        for (int v = 0; v < n; v++) {
+            offsets[vertexLevel[v] + 1]++;
+        }
+        for (int l = 0; l < levels; l++) {
+            offsets[l + 1] += offsets[l];
+        }
+        int[] byLevel = new int[n];
+        int[] next = Arrays.copyOf(offsets, levels);
+        for (int u : order) {
+            byLevel[next[vertexLevel[u]]++] = u;
+        }
+
+        predecessors = graph instanceof Graph ? ((Graph) graph).getReverseIndex() : ReverseIndex.build(graph);
+        topoPosition = position;
+        level = vertexLevel;
+        levelVertices = byLevel;
+        levelOffsets = offsets;
+        phase.end(graph.getEdgeCount());
+    }
+
+    /**
+     * Gets metrics for this execution.
+     * @return metrics object
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.graph.dagsp;
+
+import org.example.graph.common.GraphSnapshot;
+import org.example.graph.common.Metrics;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.common.VersionedGraph;
+
+import java.util.*;
+
+/**
+ * Memory-bounded LRU cache of single-source path results.
+ *
+ * Results are keyed by (graph version, source, shortest/longest) and
+ * computed on the snapshot of that version. The cache tracks the version of
+ * the {@link VersionedGraph}: the first query after an update drops every
+ * entry, and a result computed on an older snapshot is returned but not
+ * stored. Entries are charged by the size of their dist and parent arrays
+ * and evicted least recently used first once the byte budget is exceeded.
+ *
+ * Cached PathResults are shared between callers and must not be modified.
+ * Lookups are synchronized; misses are computed outside the lock, so two
+ * threads missing on the same key may both compute it.
+ * Space: at most maxBytes of result arrays plus per-entry overhead
+ */
+public class PathQueryCache {
+    private static final int ENTRY_OVERHEAD = 96;  // array headers, map node, key and result objects
+
+    private final VersionedGraph graph;
+    private final long maxBytes;
+    private final Metrics metrics;
+
+    private final LinkedHashMap<Long, DAGShortestPath.PathResult> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long version;
+    private long bytes;
+
+    /**
+     * Constructs a PathQueryCache over a versioned graph.
+     * @param graph graph whose snapshots are queried
+     * @param maxBytes byte budget for cached results
+     * @param metrics metrics tracker (cache_hits, cache_misses, cache_evictions, cache_invalidations)
+     */
+    public PathQueryCache(VersionedGraph graph, long maxBytes, Metrics metrics) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Byte budget must be non-negative: " + maxBytes);
+        }
+        this.graph = graph;
+        this.maxBytes = maxBytes;
+        this.metrics = metrics;
+        this.version = graph.getVersion();
+    }
+
+    /**
+     * Gets shortest paths from a source on the latest snapshot.
+     * @param source source vertex
+     * @return PathResult containing distances and parents (shared, read-only)
+     */
+    public DAGShortestPath.PathResult shortestPaths(int source) {
+        return get(source, false);
+    }
+
+    /**
+     * Gets longest paths from a source on the latest snapshot.
+     * @param source source vertex
+     * @return PathResult containing distances and parents (shared, read-only)
+     */
+    public DAGShortestPath.PathResult longestPaths(int source) {
+        return get(source, true);
+    }
+
+    private DAGShortestPath.PathResult get(int source, boolean longest) {
+        GraphSnapshot snapshot = graph.snapshot();
+        Long key = ((long) source << 1) | (longest ? 1 : 0);
+
+        synchronized (this) {
+            if (snapshot.getVersion() > version) {
+                entries.clear();
+                bytes = 0;
+                version = snapshot.getVersion();
+                metrics.incrementCounter("cache_invalidations");
+            }
+            if (snapshot.getVersion() == version) {
+                DAGShortestPath.PathResult cached = entries.get(key);
+                if (cached != null) {
+                    metrics.incrementCounter("cache_hits");
+                    return cached;
+                }
+            }
+            metrics.incrementCounter("cache_misses");
+        }
+
+        DAGShortestPath paths = new DAGShortestPath(snapshot, new MetricsImpl());
+        DAGShortestPath.PathResult result = longest ? paths.longestPaths(source) : paths.shortestPaths(source);
+        long size = sizeOf(result);
+
+        synchronized (this) {
+            // A newer version may have been seen while computing
+            if (snapshot.getVersion() == version && size <= maxBytes && !entries.containsKey(key)) {
+                entries.put(key, result);
+                bytes += size;
+                evict();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Drops least recently used entries until the budget is met.
+     */
+    private void evict() {
+        Iterator<DAGShortestPath.PathResult> it = entries.values().iterator();
+        int evicted = 0;
+        while (bytes > maxBytes && it.hasNext()) {
+            bytes -= sizeOf(it.next());
+            it.remove();
+            evicted++;
+        }
+        if (evicted > 0) {
+            metrics.incrementCounter("cache_evictions", evicted);
+        }
+    }
+
+    private static long sizeOf(DAGShortestPath.PathResult result) {
+        return 4L * result.dist.length + 4L * result.parent.length + ENTRY_OVERHEAD;
+    }
+
+    /**
+     * Drops all entries.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+    /**
+     * Gets the number of cached results.
+     * @return entry count
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the bytes currently charged to cached results.
+     * @return used bytes, at most the budget
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Gets the byte budget.
+     * @return maximum bytes
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Gets metrics for this cache. Read them while no queries are running.
+     * @return metrics object
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+}
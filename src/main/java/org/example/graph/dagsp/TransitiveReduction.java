@@ -0,0 +1,378 @@
+package org.example.graph.dagsp;
+
+import org.example.graph.common.AlgorithmPhaseEvent;
+import org.example.graph.common.EdgeCursor;
+import org.example.graph.common.Graph;
+import org.example.graph.common.GraphView;
+import org.example.graph.common.Metrics;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.topo.KahnTopologicalSort;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Transitive reduction of a DAG: the unique smallest subgraph with exactly
+ * the same reachability.
+ *
+ * Each vertex gets a bitset of the vertices it reaches, indexed by
+ * topological position. A vertex's out-edges are visited in increasing
+ * topological position of their targets; an edge u -> v is redundant
+ * exactly when v is already in the bitset built from u's earlier (kept)
+ * successors, otherwise it is kept and reach(v) is OR-ed in. Vertices are
+ * grouped by height (longest path to a sink) and every height is processed
+ * by ForkJoin tasks in parallel, since a vertex only reads the bitsets of
+ * lower vertices.
+ *
+ * A bitset is built in a dense per-thread scratch array and then stored
+ * compactly: as (word index, word) pairs for its non-zero words, or as a
+ * dense copy when that is smaller. Sinks store nothing. A stored bitset is
+ * released as soon as all predecessors of its vertex are done, so sparse
+ * DAGs with small reachable sets stay small even when a height level is
+ * wide.
+ *
+ * Kept edges keep their weights, but path lengths may change; the
+ * reduction preserves reachability, not distances.
+ * Time complexity: O(V * E / 64) worst case
+ * Space complexity: O(V + E) plus min(12 * non-zero words, V / 8) bytes per
+ * live bitset and V / 8 bytes of scratch per thread; O(V^2 / 8) bytes
+ * worst case for dense reachability
+ */
+public class TransitiveReduction {
+    private static final int GRAIN = 64;
+
+    private final GraphView graph;
+    private final Metrics metrics;
+
+    /**
+     * Constructs TransitiveReduction with a graph and metrics tracker.
+     * @param graph the input DAG
+     * @param metrics metrics tracker
+     */
+    public TransitiveReduction(GraphView graph, Metrics metrics) {
+        if (!graph.isDirected()) {
+            throw new IllegalArgumentException("Transitive reduction requires directed graph");
+        }
+        this.graph = graph;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Reduced graph and statistics on the removed edges.
+     */
+    public static class Result {
+        public final Graph reduced;
+        public final int originalEdges;
+        public final int transitiveEdgesRemoved;  // implied by a longer path
+        public final int duplicateEdgesRemoved;   // parallel copies of a kept edge (copies of a transitive edge count as transitive)
+
+        public Result(Graph reduced, int originalEdges, int transitiveEdgesRemoved, int duplicateEdgesRemoved) {
+            this.reduced = reduced;
+            this.originalEdges = originalEdges;
+            this.transitiveEdgesRemoved = transitiveEdgesRemoved;
+            this.duplicateEdgesRemoved = duplicateEdgesRemoved;
+        }
+
+        /**
+         * Gets the number of edges left after the reduction.
+         * @return kept edge count
+         */
+        public int getKeptEdges() {
+            return originalEdges - transitiveEdgesRemoved - duplicateEdgesRemoved;
+        }
+    }
+
+    /**
+     * Computes the reduction on the common ForkJoin pool.
+     * @return reduced graph and statistics
+     */
+    public Result reduce() {
+        return reduce(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes the reduction on a given ForkJoin pool.
+     * @param pool pool for the per-height tasks
+     * @return reduced graph and statistics
+     */
+    public Result reduce(ForkJoinPool pool) {
+        int n = graph.getVertexCount();
+        int[] order = new KahnTopologicalSort(graph, new MetricsImpl()).sortToArray();
+        if (order == null) {
+            throw new IllegalArgumentException("Graph contains a cycle - not a DAG");
+        }
+
+        metrics.startTimer();
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("TransitiveReduction", "heights", n);
+
+        // Topological positions, heights and in-degrees
+        int[] position = new int[n];
+        for (int i = 0; i < n; i++) {
+            position[order[i]] = i;
+        }
+        int[] height = new int[n];
+        int[] inDegree = new int[n];
+        int heights = n == 0 ? 0 : 1;
+        EdgeCursor edges = graph.newCursor();
+        for (int i = n - 1; i >= 0; i--) {
+            int u = order[i];
+            int h = 0;
+            edges.reset(u);
+            while (edges.next()) {
+                h = Math.max(h, height[edges.target()] + 1);
+                inDegree[edges.target()]++;
+            }
+            height[u] = h;
+            heights = Math.max(heights, h + 1);
+        }
+
+        // Group vertices by height (counting sort)
+        int[] heightOffsets = new int[heights + 1];
+        for (int v = 0; v < n; v++) {
+            heightOffsets[height[v] + 1]++;
+        }
+        for (int h = 0; h < heights; h++) {
+            heightOffsets[h + 1] += heightOffsets[h];
+        }
+        int[] byHeight = new int[n];
+        int[] next = Arrays.copyOf(heightOffsets, heights);
+        for (int v = 0; v < n; v++) {
+            byHeight[next[height[v]]++] = v;
+        }
+        phase.end(graph.getEdgeCount());
+
+        // Reduce height by height; all vertices of one height are independent
+        phase = AlgorithmPhaseEvent.begin("TransitiveReduction", "reduce", n);
+        State state = new State(n, position, inDegree);
+        for (int h = 0; h < heights; h++) {
+            ReduceTask task = new ReduceTask(state, byHeight, heightOffsets[h], heightOffsets[h + 1]);
+            if (heightOffsets[h + 1] - heightOffsets[h] <= GRAIN) {
+                task.compute();
+            } else {
+                pool.invoke(task);
+            }
+        }
+
+        Graph reduced = new Graph(n, true, graph.getWeightModel());
+        int originalEdges = 0;
+        int transitive = 0;
+        int duplicates = 0;
+        for (int u = 0; u < n; u++) {
+            int[] targets = state.keptTargets[u];
+            int[] weights = state.keptWeights[u];
+            for (int i = 0; i < targets.length; i++) {
+                reduced.addEdge(u, targets[i], weights[i]);
+            }
+            originalEdges += state.degree[u];
+            transitive += state.transitive[u];
+            duplicates += state.degree[u] - targets.length - state.transitive[u];
+        }
+        phase.end(originalEdges);
+
+        metrics.stopTimer();
+        metrics.incrementCounter("edges_scanned", originalEdges);
+        metrics.incrementCounter("transitive_edges_removed", transitive);
+        metrics.incrementCounter("duplicate_edges_removed", duplicates);
+        metrics.incrementCounter("heights", heights);
+
+        return new Result(reduced, originalEdges, transitive, duplicates);
+    }
+
+    /**
+     * Shared arrays; each vertex's entries are written by exactly one task.
+     */
+    private static class State {
+        final int words;
+        final int[] position;
+        final long[][] reachBits;   // null for sinks and released vertices
+        final int[][] reachIndex;   // word index per entry of reachBits, or null if reachBits is dense
+        final AtomicIntegerArray pendingPredecessors;
+        final int[][] keptTargets;
+        final int[][] keptWeights;
+        final int[] degree;
+        final int[] transitive;
+        final ThreadLocal<Scratch> scratch;
+
+        State(int n, int[] position, int[] inDegree) {
+            this.words = (n + 63) >>> 6;
+            this.position = position;
+            this.reachBits = new long[n][];
+            this.reachIndex = new int[n][];
+            this.pendingPredecessors = new AtomicIntegerArray(inDegree);
+            this.keptTargets = new int[n][];
+            this.keptWeights = new int[n][];
+            this.degree = new int[n];
+            this.transitive = new int[n];
+            this.scratch = ThreadLocal.withInitial(() -> new Scratch(words));
+        }
+    }
+
+    /**
+     * Dense bitset of one worker thread plus the list of its non-zero words,
+     * so it can be cleared without touching every word.
+     */
+    private static class Scratch {
+        final long[] bits;
+        final int[] touched;
+        int touchedCount;
+
+        Scratch(int words) {
+            this.bits = new long[words];
+            this.touched = new int[words];
+        }
+
+        void or(int word, long mask) {
+            if (bits[word] == 0) {
+                touched[touchedCount++] = word;
+            }
+            bits[word] |= mask;
+        }
+    }
+
+    /**
+     * Reduces the out-edges of a range of same-height vertices.
+     */
+    @SuppressWarnings("serial")
+    private class ReduceTask extends RecursiveAction {
+        private final State state;
+        private final int[] vertices;
+        private final int from;
+        private final int to;
+
+        ReduceTask(State state, int[] vertices, int from, int to) {
+            this.state = state;
+            this.vertices = vertices;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > GRAIN) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ReduceTask(state, vertices, from, mid), new ReduceTask(state, vertices, mid, to));
+                return;
+            }
+
+            EdgeCursor edges = graph.newCursor();
+            Scratch scratch = state.scratch.get();
+            long[] keys = new long[16];
+            int[] targets = new int[16];
+            int[] weights = new int[16];
+            for (int i = from; i < to; i++) {
+                int u = vertices[i];
+
+                // Collect out-edges keyed by (target position, edge index)
+                int degree = 0;
+                edges.reset(u);
+                while (edges.next()) {
+                    if (degree == keys.length) {
+                        keys = Arrays.copyOf(keys, degree * 2);
+                        targets = Arrays.copyOf(targets, degree * 2);
+                        weights = Arrays.copyOf(weights, degree * 2);
+                    }
+                    targets[degree] = edges.target();
+                    weights[degree] = edges.weight();
+                    keys[degree] = ((long) state.position[edges.target()] << 32) | degree;
+                    degree++;
+                }
+                Arrays.sort(keys, 0, degree);
+
+                // Nearest successors first: later ones may be implied by them
+                long[] reach = scratch.bits;
+                boolean[] keep = new boolean[degree];
+                int kept = 0;
+                int transitive = 0;
+                int lastKept = -1;
+                for (int k = 0; k < degree; k++) {
+                    int edge = (int) keys[k];
+                    int v = targets[edge];
+                    int p = state.position[v];
+                    if ((reach[p >>> 6] & (1L << p)) != 0) {
+                        // Copies are adjacent; only copies of a kept edge are duplicates
+                        if (p != lastKept) {
+                            transitive++;
+                        }
+                        continue;
+                    }
+                    keep[edge] = true;
+                    kept++;
+                    lastKept = p;
+                    scratch.or(p >>> 6, 1L << p);
+                    long[] bitsV = state.reachBits[v];
+                    if (bitsV == null) {
+                        continue;  // sink
+                    }
+                    int[] indexV = state.reachIndex[v];
+                    for (int w = 0; w < bitsV.length; w++) {
+                        if (bitsV[w] != 0) {
+                            scratch.or(indexV == null ? w : indexV[w], bitsV[w]);
+                        }
+                    }
+                }
+
+                // Kept edges in their original order
+                int[] outTargets = new int[kept];
+                int[] outWeights = new int[kept];
+                int j = 0;
+                for (int e = 0; e < degree; e++) {
+                    if (keep[e]) {
+                        outTargets[j] = targets[e];
+                        outWeights[j++] = weights[e];
+                    }
+                }
+                state.keptTargets[u] = outTargets;
+                state.keptWeights[u] = outWeights;
+                state.degree[u] = degree;
+                state.transitive[u] = transitive;
+                if (state.pendingPredecessors.get(u) > 0) {
+                    store(state, u, scratch);  // sources are never read
+                }
+                for (int t = 0; t < scratch.touchedCount; t++) {
+                    reach[scratch.touched[t]] = 0;
+                }
+                scratch.touchedCount = 0;
+
+                // Successor bitsets are no longer needed once all their predecessors are done
+                for (int e = 0; e < degree; e++) {
+                    if (state.pendingPredecessors.decrementAndGet(targets[e]) == 0) {
+                        state.reachBits[targets[e]] = null;
+                        state.reachIndex[targets[e]] = null;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Saves the scratch bitset as u's reach set, sparse or dense, whichever
+     * is smaller. An empty set (a sink) is not stored.
+     */
+    private static void store(State state, int u, Scratch scratch) {
+        int count = scratch.touchedCount;
+        if (count == 0) {
+            return;
+        }
+        if (12L * count >= 8L * state.words) {
+            state.reachBits[u] = scratch.bits.clone();
+            return;
+        }
+        int[] index = Arrays.copyOf(scratch.touched, count);
+        long[] bits = new long[count];
+        for (int i = 0; i < count; i++) {
+            bits[i] = scratch.bits[index[i]];
+        }
+        state.reachIndex[u] = index;
+        state.reachBits[u] = bits;
+    }
+
+    /**
+     * Gets metrics for this execution.
+     * @return metrics object
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+}
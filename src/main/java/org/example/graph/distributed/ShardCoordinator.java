@@ -0,0 +1,292 @@
+package org.example.graph.distributed;
+
+import org.example.graph.common.AlgorithmPhaseEvent;
+import org.example.graph.common.Graph;
+import org.example.graph.common.Metrics;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.dagsp.DAGShortestPath;
+import org.example.graph.scc.TarjanSCC;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Coordinator for sharded SCC computation across worker processes.
+ *
+ * The vertex range is split into contiguous shards. Each {@link ShardWorker}
+ * finds the SCCs of the subgraph induced by its shard; every local SCC lies
+ * inside exactly one global SCC, so the coordinator contracts each local
+ * SCC to a single block, runs Tarjan on the (much smaller) block graph and
+ * composes both mappings. The block graph's condensation is the global
+ * condensation DAG, on which DAG path queries run.
+ *
+ * By default workers are started as local JVMs that connect back over
+ * localhost. With {@link #ShardCoordinator(int, int, Metrics)} the
+ * coordinator only listens and expects externally started workers,
+ * for example on other machines.
+ */
+public class ShardCoordinator {
+    private static final int ACCEPT_TIMEOUT_MILLIS = 60_000;
+
+    private final int shardCount;
+    private final int port;
+    private final boolean launchLocalWorkers;
+    private final Metrics metrics;
+
+    /**
+     * Constructs a coordinator that launches one local worker JVM per shard.
+     * @param shardCount number of shards
+     * @param metrics metrics tracker
+     */
+    public ShardCoordinator(int shardCount, Metrics metrics) {
+        this(shardCount, 0, true, metrics);
+    }
+
+    /**
+     * Constructs a coordinator that waits for external workers on a fixed port.
+     * @param shardCount number of shards (and workers expected to connect)
+     * @param port port to listen on
+     * @param metrics metrics tracker
+     */
+    public ShardCoordinator(int shardCount, int port, Metrics metrics) {
+        this(shardCount, port, false, metrics);
+    }
+
+    private ShardCoordinator(int shardCount, int port, boolean launchLocalWorkers, Metrics metrics) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        this.shardCount = shardCount;
+        this.port = port;
+        this.launchLocalWorkers = launchLocalWorkers;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Result of a sharded SCC computation.
+     */
+    public static class ShardedResult {
+        public final int[] sccId;
+        public final int componentCount;
+        public final Graph condensation;
+
+        public ShardedResult(int[] sccId, int componentCount, Graph condensation) {
+            this.sccId = sccId;
+            this.componentCount = componentCount;
+            this.condensation = condensation;
+        }
+
+        /**
+         * Shortest paths over the condensation DAG.
+         * @param sourceVertex source vertex in the original graph
+         * @return PathResult indexed by component id
+         */
+        public DAGShortestPath.PathResult shortestPaths(int sourceVertex) {
+            return new DAGShortestPath(condensation, new MetricsImpl()).shortestPaths(sccId[sourceVertex]);
+        }
+
+        /**
+         * Longest paths over the condensation DAG.
+         * @param sourceVertex source vertex in the original graph
+         * @return PathResult indexed by component id
+         */
+        public DAGShortestPath.PathResult longestPaths(int sourceVertex) {
+            return new DAGShortestPath(condensation, new MetricsImpl()).longestPaths(sccId[sourceVertex]);
+        }
+    }
+
+    /**
+     * Shard assignment and the worker's answer for it.
+     */
+    private static class Shard {
+        final int lo;
+        final int hi;
+        int[] localComponent;
+        int componentCount;
+        int[] intraEdges;  // triples (cu, cv, w)
+        int[] crossEdges;  // triples (cu, v, w)
+
+        Shard(int lo, int hi) {
+            this.lo = lo;
+            this.hi = hi;
+        }
+    }
+
+    /**
+     * Computes the SCCs and condensation of a graph using worker processes.
+     * @param graph the input directed graph
+     * @return sharded result
+     * @throws IOException if a worker fails or cannot be reached
+     */
+    public ShardedResult computeSCCs(Graph graph) throws IOException {
+        if (!graph.isDirected()) {
+            throw new IllegalArgumentException("SCC requires directed graph");
+        }
+        int n = graph.getVertexCount();
+        int shards = Math.max(1, Math.min(shardCount, n));
+
+        Shard[] plan = new Shard[shards];
+        for (int s = 0; s < shards; s++) {
+            plan[s] = new Shard((int) ((long) n * s / shards), (int) ((long) n * (s + 1) / shards));
+        }
+
+        metrics.startTimer();
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("ShardCoordinator", "exchange", n);
+
+        List<Process> workers = new ArrayList<>();
+        ExecutorService io = Executors.newFixedThreadPool(shards);
+        InetAddress bindAddress = launchLocalWorkers ? InetAddress.getLoopbackAddress() : null;
+        try (ServerSocket server = new ServerSocket(port, shards, bindAddress)) {
+            server.setSoTimeout(ACCEPT_TIMEOUT_MILLIS);
+            if (launchLocalWorkers) {
+                for (int s = 0; s < shards; s++) {
+                    workers.add(launchWorker(server.getLocalPort()));
+                }
+            }
+
+            List<Future<?>> pending = new ArrayList<>();
+            for (Shard shard : plan) {
+                Socket socket = server.accept();
+                pending.add(io.submit(() -> {
+                    try (socket) {
+                        exchange(socket, graph, shard);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : pending) {
+                f.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for shard workers", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Shard worker failed", e.getCause());
+        } finally {
+            io.shutdownNow();
+            for (Process p : workers) {
+                p.destroy();
+            }
+        }
+
+        phase.end(graph.getEdgeCount());
+
+        phase = AlgorithmPhaseEvent.begin("ShardCoordinator", "merge", n);
+        ShardedResult result = merge(graph, plan);
+        phase.end(result.condensation.getEdgeCount());
+
+        metrics.stopTimer();
+        metrics.incrementCounter("shards", shards);
+        return result;
+    }
+
+    private Process launchWorker(int listenPort) throws IOException {
+        String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        ProcessBuilder pb = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                ShardWorker.class.getName(), "127.0.0.1", String.valueOf(listenPort));
+        pb.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+        return pb.start();
+    }
+
+    /**
+     * Sends one shard to a worker and reads its answer.
+     */
+    private void exchange(Socket socket, Graph graph, Shard shard) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+
+        int edgeCount = 0;
+        for (int u = shard.lo; u < shard.hi; u++) {
+            edgeCount += graph.getAdjacentEdges(u).size();
+        }
+
+        out.writeInt(ShardProtocol.MAGIC);
+        out.writeInt(shard.lo);
+        out.writeInt(shard.hi);
+        out.writeInt(edgeCount);
+        for (int u = shard.lo; u < shard.hi; u++) {
+            for (Graph.Edge edge : graph.getAdjacentEdges(u)) {
+                out.writeInt(u - shard.lo);
+                out.writeInt(edge.to);
+                out.writeInt(edge.weight);
+            }
+        }
+        out.flush();
+
+        ShardProtocol.readMagic(in);
+        shard.componentCount = in.readInt();
+        shard.localComponent = new int[shard.hi - shard.lo];
+        for (int i = 0; i < shard.localComponent.length; i++) {
+            shard.localComponent[i] = in.readInt();
+        }
+        shard.intraEdges = readTriples(in);
+        shard.crossEdges = readTriples(in);
+    }
+
+    private static int[] readTriples(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        int[] triples = new int[count * 3];
+        for (int i = 0; i < triples.length; i++) {
+            triples[i] = in.readInt();
+        }
+        return triples;
+    }
+
+    /**
+     * Contracts local SCCs into blocks and finds the SCCs of the block graph.
+     */
+    private ShardedResult merge(Graph graph, Shard[] plan) {
+        int n = graph.getVertexCount();
+        int[] blockOffset = new int[plan.length + 1];
+        for (int s = 0; s < plan.length; s++) {
+            blockOffset[s + 1] = blockOffset[s] + plan[s].componentCount;
+        }
+
+        int[] blockOf = new int[n];
+        for (int s = 0; s < plan.length; s++) {
+            Shard shard = plan[s];
+            for (int v = shard.lo; v < shard.hi; v++) {
+                blockOf[v] = blockOffset[s] + shard.localComponent[v - shard.lo];
+            }
+        }
+
+        Graph blocks = new Graph(blockOffset[plan.length], true, graph.getWeightModel());
+        for (int s = 0; s < plan.length; s++) {
+            int[] intra = plan[s].intraEdges;
+            for (int i = 0; i < intra.length; i += 3) {
+                blocks.addEdge(blockOffset[s] + intra[i], blockOffset[s] + intra[i + 1], intra[i + 2]);
+            }
+            int[] cross = plan[s].crossEdges;
+            for (int i = 0; i < cross.length; i += 3) {
+                blocks.addEdge(blockOffset[s] + cross[i], blockOf[cross[i + 1]], cross[i + 2]);
+            }
+        }
+        metrics.incrementCounter("blocks", blocks.getVertexCount());
+        metrics.incrementCounter("block_edges", blocks.getEdgeCount());
+
+        // The block graph can be nearly as large as the input (e.g. a DAG), so use the iterative DFS
+        TarjanSCC blockScc = new TarjanSCC(blocks, new MetricsImpl());
+        int componentCount = blockScc.findComponents().getComponentCount();
+
+        int[] sccId = new int[n];
+        for (int v = 0; v < n; v++) {
+            sccId[v] = blockScc.getSccId(blockOf[v]);
+        }
+        metrics.incrementCounter("sccs_found", componentCount);
+
+        return new ShardedResult(sccId, componentCount, blockScc.buildCondensationGraph());
+    }
+
+    /**
+     * Gets metrics for this execution.
+     * @return metrics object
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.graph.distributed;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * Wire format shared by {@link ShardCoordinator} and {@link ShardWorker}.
+ *
+ * Coordinator to worker:
+ *   MAGIC, lo, hi, edgeCount, then edgeCount x (localU, v, w)
+ *   where u = lo + localU is in the shard and v is a global vertex id.
+ *
+ * Worker to coordinator:
+ *   MAGIC, componentCount, (hi - lo) x localComponent,
+ *   intraCount, intraCount x (componentU, componentV, w),
+ *   crossCount, crossCount x (componentU, v, w)
+ */
+final class ShardProtocol {
+    static final int MAGIC = 0x53434331; // "SCC1"
+
+    private ShardProtocol() {
+    }
+
+    /**
+     * Reads and validates the protocol header.
+     * @param in input stream
+     * @throws IOException if the peer does not speak this protocol
+     */
+    static void readMagic(DataInputStream in) throws IOException {
+        int magic = in.readInt();
+        if (magic != MAGIC) {
+            throw new IOException("Unexpected shard protocol header: " + Integer.toHexString(magic));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.graph.distributed;
+
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.scc.TarjanSCC;
+
+import java.io.*;
+import java.net.Socket;
+import java.util.*;
+
+/**
+ * Worker process for sharded SCC computation.
+ * Connects to a coordinator, receives the out-edges of one vertex range,
+ * finds the SCCs of the subgraph induced by that range and sends back the
+ * local component ids together with the deduplicated edges that leave
+ * each local component.
+ *
+ * Usage: java -cp ... org.example.graph.distributed.ShardWorker host port
+ */
+public class ShardWorker {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: ShardWorker <host> <port>");
+            System.exit(2);
+        }
+        try (Socket socket = new Socket(args[0], Integer.parseInt(args[1]))) {
+            serve(socket);
+        }
+    }
+
+    /**
+     * Handles one shard request on an open connection.
+     * @param socket connection to the coordinator
+     * @throws IOException on protocol or network errors
+     */
+    static void serve(Socket socket) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+        ShardProtocol.readMagic(in);
+        int lo = in.readInt();
+        int hi = in.readInt();
+        int edgeCount = in.readInt();
+        int size = hi - lo;
+
+        // Split edges into the induced local subgraph and cross-shard edges
+        Graph local = new Graph(size, true, "edge");
+        int[] crossU = new int[edgeCount];
+        int[] crossV = new int[edgeCount];
+        int[] crossW = new int[edgeCount];
+        int crossCount = 0;
+
+        for (int i = 0; i < edgeCount; i++) {
+            int u = in.readInt();
+            int v = in.readInt();
+            int w = in.readInt();
+            if (v >= lo && v < hi) {
+                local.addEdge(u, v - lo, w);
+            } else {
+                crossU[crossCount] = u;
+                crossV[crossCount] = v;
+                crossW[crossCount] = w;
+                crossCount++;
+            }
+        }
+
+        TarjanSCC scc = new TarjanSCC(local, new MetricsImpl());
+        int componentCount = scc.findComponents().getComponentCount();  // iterative: deep shards are safe
+        Graph condensation = scc.buildCondensationGraph();
+
+        out.writeInt(ShardProtocol.MAGIC);
+        out.writeInt(componentCount);
+        for (int v = 0; v < size; v++) {
+            out.writeInt(scc.getSccId(v));
+        }
+
+        out.writeInt(condensation.getEdgeCount());
+        for (int c = 0; c < componentCount; c++) {
+            for (Graph.Edge edge : condensation.getAdjacentEdges(c)) {
+                out.writeInt(c);
+                out.writeInt(edge.to);
+                out.writeInt(edge.weight);
+            }
+        }
+
+        // Collapse cross edges that leave the same component towards the same vertex
+        Set<Long> seen = new HashSet<>();
+        int[] keep = new int[crossCount];
+        int keepCount = 0;
+        for (int i = 0; i < crossCount; i++) {
+            long key = ((long) scc.getSccId(crossU[i]) << 32) | crossV[i];
+            if (seen.add(key)) {
+                keep[keepCount++] = i;
+            }
+        }
+
+        out.writeInt(keepCount);
+        for (int k = 0; k < keepCount; k++) {
+            int i = keep[k];
+            out.writeInt(scc.getSccId(crossU[i]));
+            out.writeInt(crossV[i]);
+            out.writeInt(crossW[i]);
+        }
+        out.flush();
+    }
+}
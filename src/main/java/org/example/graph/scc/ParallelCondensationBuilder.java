@@ -0,0 +1,258 @@
+package org.example.graph.scc;
+
+import org.example.graph.common.AlgorithmPhaseEvent;
+import org.example.graph.common.EdgeCursor;
+import org.example.graph.common.GraphSnapshot;
+import org.example.graph.common.GraphView;
+import org.example.graph.common.Metrics;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntConsumer;
+
+/**
+ * Builds the condensation DAG of a graph in parallel from SCC ids.
+ *
+ * 1. Emit: vertex chunks are scanned by ForkJoin tasks; every
+ *    inter-component edge becomes a packed long key (sccU << 32 | sccV) in
+ *    a chunk-local primitive buffer, with its weight alongside.
+ * 2. Sort: the buffers are concatenated in chunk order and the keys are
+ *    sorted with {@link Arrays#parallelSort(long[])}.
+ * 3. Dedup: segments of the sorted keys count and copy their distinct keys
+ *    in parallel; the distinct keys are already the CSR target rows.
+ * 4. Weights: each condensation edge takes the weight of its first edge in
+ *    vertex order, which matches {@link TarjanSCC#buildCondensationGraph()}.
+ *
+ * The result is an immutable CSR {@link GraphSnapshot}; targets of each
+ * component are in increasing order.
+ * Time complexity: O(V + E + E' log E') work for E' inter-component edges
+ */
+public class ParallelCondensationBuilder {
+    private static final int MIN_CHUNK = 1 << 12;
+
+    private final GraphView graph;
+    private final int[] sccId;
+    private final int componentCount;
+    private final Metrics metrics;
+
+    /**
+     * Constructs a ParallelCondensationBuilder.
+     * @param graph the input directed graph
+     * @param sccId component id of every vertex
+     * @param componentCount number of components
+     * @param metrics metrics tracker
+     */
+    public ParallelCondensationBuilder(GraphView graph, int[] sccId, int componentCount, Metrics metrics) {
+        this.graph = graph;
+        this.sccId = sccId;
+        this.componentCount = componentCount;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Builds the condensation on a dedicated ForkJoin pool.
+     * @param parallelism number of worker threads
+     * @return condensation DAG in CSR form
+     */
+    public GraphSnapshot build(int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        try {
+            return build(pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Builds the condensation on an existing ForkJoin pool.
+     * @param pool pool to run the tasks on
+     * @return condensation DAG in CSR form
+     */
+    public GraphSnapshot build(ForkJoinPool pool) {
+        int n = graph.getVertexCount();
+        metrics.startTimer();
+
+        // 1. Emit inter-component edges into chunk-local buffers
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("ParallelCondensation", "emit", n);
+        int chunkSize = Math.max(MIN_CHUNK, n / (pool.getParallelism() * 8) + 1);
+        int chunks = (n + chunkSize - 1) / chunkSize;
+        long[][] chunkKeys = new long[chunks][];
+        int[][] chunkWeights = new int[chunks][];
+        int[] chunkCounts = new int[chunks];
+        forEach(pool, chunks, c -> emit(c, chunkSize, chunkKeys, chunkWeights, chunkCounts));
+
+        int[] chunkStart = new int[chunks + 1];
+        for (int c = 0; c < chunks; c++) {
+            chunkStart[c + 1] = chunkStart[c] + chunkCounts[c];
+        }
+        int total = chunkStart[chunks];
+        long[] keys = new long[total];
+        int[] weights = new int[total];
+        forEach(pool, chunks, c -> {
+            System.arraycopy(chunkKeys[c], 0, keys, chunkStart[c], chunkCounts[c]);
+            System.arraycopy(chunkWeights[c], 0, weights, chunkStart[c], chunkCounts[c]);
+        });
+        phase.end(total);
+
+        // 2. Sort packed keys; the unsorted copy keeps the original edge order
+        phase = AlgorithmPhaseEvent.begin("ParallelCondensation", "sort", n);
+        long[] sorted = keys.clone();
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                Arrays.parallelSort(sorted);
+            }
+        });
+        phase.end(total);
+
+        // 3. Parallel dedup: count distinct keys per segment, then copy
+        phase = AlgorithmPhaseEvent.begin("ParallelCondensation", "dedup", n);
+        int segments = Math.max(1, Math.min(pool.getParallelism() * 4, total / MIN_CHUNK));
+        int[] segmentStart = new int[segments + 1];
+        forEach(pool, segments, s -> segmentStart[s + 1] = countDistinct(sorted,
+                segmentBound(total, segments, s), segmentBound(total, segments, s + 1)));
+        for (int s = 0; s < segments; s++) {
+            segmentStart[s + 1] += segmentStart[s];
+        }
+        int distinct = segmentStart[segments];
+        long[] unique = new long[distinct];
+        forEach(pool, segments, s -> {
+            int k = segmentStart[s];
+            for (int i = segmentBound(total, segments, s); i < segmentBound(total, segments, s + 1); i++) {
+                if (i == 0 || sorted[i] != sorted[i - 1]) {
+                    unique[k++] = sorted[i];
+                }
+            }
+        });
+        phase.end(total);
+
+        // 4. First weight of each distinct key, by lowest position in edge order
+        phase = AlgorithmPhaseEvent.begin("ParallelCondensation", "weights", n);
+        AtomicIntegerArray firstPosition = new AtomicIntegerArray(distinct);
+        forEach(pool, chunks, c -> {
+            for (int i = chunkStart[c]; i < chunkStart[c + 1]; i++) {
+                int j = Arrays.binarySearch(unique, keys[i]);
+                int position = i + 1; // 0 marks "unset"
+                firstPosition.accumulateAndGet(j, position,
+                        (current, candidate) -> current == 0 || candidate < current ? candidate : current);
+            }
+        });
+
+        int[] offsets = new int[componentCount + 1];
+        int[] targets = new int[distinct];
+        int[] edgeWeights = new int[distinct];
+        for (int j = 0; j < distinct; j++) {
+            offsets[(int) (unique[j] >>> 32) + 1]++;
+        }
+        for (int c = 0; c < componentCount; c++) {
+            offsets[c + 1] += offsets[c];
+        }
+        forEach(pool, segments, s -> {
+            int from = segmentBound(distinct, segments, s);
+            int to = segmentBound(distinct, segments, s + 1);
+            for (int j = from; j < to; j++) {
+                targets[j] = (int) unique[j];
+                edgeWeights[j] = weights[firstPosition.get(j) - 1];
+            }
+        });
+        phase.end(distinct);
+
+        metrics.stopTimer();
+        metrics.incrementCounter("edges_scanned", graph.getEdgeCount());
+        metrics.incrementCounter("inter_component_edges", total);
+        metrics.incrementCounter("condensation_edges", distinct);
+
+        return GraphSnapshot.wrap(true, graph.getWeightModel(), 0, offsets, targets, edgeWeights);
+    }
+
+    /**
+     * Scans one vertex chunk into primitive buffers.
+     */
+    private void emit(int chunk, int chunkSize, long[][] chunkKeys, int[][] chunkWeights, int[] chunkCounts) {
+        int from = chunk * chunkSize;
+        int to = Math.min(graph.getVertexCount(), from + chunkSize);
+        long[] keys = new long[64];
+        int[] weights = new int[64];
+        int count = 0;
+
+        EdgeCursor edges = graph.newCursor();
+        for (int u = from; u < to; u++) {
+            int cu = sccId[u];
+            edges.reset(u);
+            while (edges.next()) {
+                int cv = sccId[edges.target()];
+                if (cu == cv) {
+                    continue;
+                }
+                if (count == keys.length) {
+                    keys = Arrays.copyOf(keys, count * 2);
+                    weights = Arrays.copyOf(weights, count * 2);
+                }
+                keys[count] = ((long) cu << 32) | (cv & 0xFFFFFFFFL);
+                weights[count++] = edges.weight();
+            }
+        }
+        chunkKeys[chunk] = keys;
+        chunkWeights[chunk] = weights;
+        chunkCounts[chunk] = count;
+    }
+
+    private static int countDistinct(long[] sorted, int from, int to) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int segmentBound(int total, int segments, int s) {
+        return (int) ((long) total * s / segments);
+    }
+
+    /**
+     * Runs body(i) for i in [0, count) as ForkJoin tasks and waits.
+     */
+    private static void forEach(ForkJoinPool pool, int count, IntConsumer body) {
+        if (count > 0) {
+            pool.invoke(new RangeTask(0, count, body));
+        }
+    }
+
+    /**
+     * Splits an index range in halves down to single indices.
+     */
+    @SuppressWarnings("serial")
+    private static class RangeTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final IntConsumer body;
+
+        RangeTask(int from, int to, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                body.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(from, mid, body), new RangeTask(mid, to, body));
+        }
+    }
+
+    /**
+     * Gets metrics for this execution.
+     * @return metrics object
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+}
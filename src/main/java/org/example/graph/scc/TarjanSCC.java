@@ -1,6 +1,12 @@
 package org.example.graph.scc;
 
+import org.example.graph.common.AlgorithmPhaseEvent;
+import org.example.graph.common.AlgorithmWorkspace;
+import org.example.graph.common.ComponentResult;
+import org.example.graph.common.EdgeCursor;
 import org.example.graph.common.Graph;
+import org.example.graph.common.GraphSnapshot;
+import org.example.graph.common.GraphView;
 import org.example.graph.common.Metrics;
 
 import java.util.*;
@@ -11,7 +17,7 @@ import java.util.*;
  * Space complexity: O(V)
  */
 public class TarjanSCC {
-    private final Graph graph;
+    private final GraphView graph;
     private final Metrics metrics;
 
     private int[] ids;        // node id (discovery time)
@@ -19,16 +25,18 @@ public class TarjanSCC {
     private boolean[] onStack;
     private Stack<Integer> stack;
     private int id;
+    private long edgesExplored; // edges scanned by the current findSCCs() run
 
     private List<List<Integer>> sccs;
     private int[] sccId;      // maps each vertex to its SCC id
+    private int componentCount = -1;
 
     /**
      * Constructs TarjanSCC with a graph and metrics tracker.
      * @param graph the input directed graph
      * @param metrics metrics tracker
      */
-    public TarjanSCC(Graph graph, Metrics metrics) {
+    public TarjanSCC(GraphView graph, Metrics metrics) {
         if (!graph.isDirected()) {
             throw new IllegalArgumentException("SCC requires directed graph");
         }
@@ -53,8 +61,10 @@ public class TarjanSCC {
         Arrays.fill(ids, -1);
         Arrays.fill(sccId, -1);
         id = 0;
+        edgesExplored = 0;
 
         metrics.startTimer();
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("Tarjan", "dfs", n);
 
         // Run DFS from every unvisited node
         for (int i = 0; i < n; i++) {
@@ -63,7 +73,9 @@ public class TarjanSCC {
             }
         }
 
+        phase.end(edgesExplored);
         metrics.stopTimer();
+        componentCount = sccs.size();
 
         return sccs;
     }
@@ -81,9 +93,12 @@ public class TarjanSCC {
         metrics.incrementCounter("dfs_visits");
 
         // Visit all neighbors
-        for (Graph.Edge edge : graph.getAdjacentEdges(u)) {
-            int v = edge.to;
+        EdgeCursor edges = graph.newCursor();
+        edges.reset(u);
+        while (edges.next()) {
+            int v = edges.target();
             metrics.incrementCounter("edges_explored");
+            edgesExplored++;
 
             if (ids[v] == -1) {
                 // Unvisited neighbor - continue DFS
@@ -116,6 +131,103 @@ public class TarjanSCC {
         }
     }
 
+    /**
+     * Finds all strongly connected components in a flat primitive layout,
+     * without boxing or sorting. Uses the iterative DFS of
+     * {@link #findSccIdsInto(int[], AlgorithmWorkspace)}; component ids and
+     * member order match {@link #findSCCs()}, and the list view is built
+     * only on demand.
+     * @return component ids, offsets and members
+     */
+    public ComponentResult findComponents() {
+        int[] ids = new int[graph.getVertexCount()];
+        int count = findSccIdsInto(ids, AlgorithmWorkspace.forCurrentThread());
+        sccId = ids;
+        componentCount = count;
+        return ComponentResult.fromIds(ids, count);
+    }
+
+    /**
+     * Computes SCC ids into a caller-owned array with an iterative DFS whose
+     * stacks, discovery times and cursors all come from a workspace
+     * (slots 0-3). Ids are numbered as in {@link #findSCCs()}. Allocates
+     * nothing once the workspace has grown to the graph size.
+     * @param sccIdOut output component id per vertex, length at least n
+     * @param workspace reusable workspace
+     * @return number of components
+     */
+    public int findSccIdsInto(int[] sccIdOut, AlgorithmWorkspace workspace) {
+        int n = graph.getVertexCount();
+        workspace.ensureCapacity(n);
+        int[] disc = workspace.intArray(0);
+        int[] lowLink = workspace.intArray(1);
+        int[] sccStack = workspace.intArray(2);
+        int[] callStack = workspace.intArray(3);
+        Arrays.fill(sccIdOut, 0, n, -1);
+        workspace.newEpoch();
+
+        metrics.startTimer();
+        int time = 0;
+        int top = 0;
+        int count = 0;
+        long edgesExplored = 0;
+
+        for (int s = 0; s < n; s++) {
+            if (workspace.isMarked(s)) {
+                continue;
+            }
+            workspace.mark(s);
+            disc[s] = lowLink[s] = time++;
+            sccStack[top++] = s;
+            callStack[0] = s;
+            workspace.cursor(graph, 0).reset(s);
+            int depth = 1;
+
+            while (depth > 0) {
+                int u = callStack[depth - 1];
+                EdgeCursor edges = workspace.cursor(graph, depth - 1);
+                if (edges.next()) {
+                    int v = edges.target();
+                    edgesExplored++;
+                    if (!workspace.isMarked(v)) {
+                        // Descend: v becomes the new top frame
+                        workspace.mark(v);
+                        disc[v] = lowLink[v] = time++;
+                        sccStack[top++] = v;
+                        callStack[depth] = v;
+                        workspace.cursor(graph, depth).reset(v);
+                        depth++;
+                    } else if (sccIdOut[v] == -1) {
+                        // Visited and not yet assigned: still on the stack
+                        lowLink[u] = Math.min(lowLink[u], disc[v]);
+                    }
+                    continue;
+                }
+
+                // All edges of u done: close its frame
+                depth--;
+                if (lowLink[u] == disc[u]) {
+                    int v;
+                    do {
+                        v = sccStack[--top];
+                        sccIdOut[v] = count;
+                    } while (v != u);
+                    count++;
+                }
+                if (depth > 0) {
+                    int p = callStack[depth - 1];
+                    lowLink[p] = Math.min(lowLink[p], lowLink[u]);
+                }
+            }
+        }
+
+        metrics.stopTimer();
+        metrics.incrementCounter("dfs_visits", time);
+        metrics.incrementCounter("edges_explored", (int) edgesExplored);
+        metrics.incrementCounter("sccs_found", count);
+        return count;
+    }
+
     /**
      * Gets the SCC ID for a vertex (must call findSCCs first).
      * @param vertex the vertex
@@ -134,36 +246,56 @@ public class TarjanSCC {
      * @return condensation graph
      */
     public Graph buildCondensationGraph() {
-        if (sccs == null) {
+        if (sccId == null) {
             throw new IllegalStateException("Must call findSCCs() first");
         }
 
-        int numSccs = sccs.size();
+        int numSccs = componentCount;
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("Tarjan", "condensation", graph.getVertexCount());
+        long edgesScanned = 0;
         Graph condensation = new Graph(numSccs, true, graph.getWeightModel());
         Set<String> addedEdges = new HashSet<>();
 
         // For each edge in original graph
+        EdgeCursor edges = graph.newCursor();
         for (int u = 0; u < graph.getVertexCount(); u++) {
             int sccU = sccId[u];
 
-            for (Graph.Edge edge : graph.getAdjacentEdges(u)) {
-                int v = edge.to;
+            edges.reset(u);
+            while (edges.next()) {
+                int v = edges.target();
                 int sccV = sccId[v];
+                edgesScanned++;
 
                 // Add edge between different SCCs (avoid duplicates)
                 if (sccU != sccV) {
                     String edgeKey = sccU + "->" + sccV;
                     if (!addedEdges.contains(edgeKey)) {
-                        condensation.addEdge(sccU, sccV, edge.weight);
+                        condensation.addEdge(sccU, sccV, edges.weight());
                         addedEdges.add(edgeKey);
                     }
                 }
             }
         }
 
+        phase.end(edgesScanned);
         return condensation;
     }
 
+    /**
+     * Builds the condensation graph with {@link ParallelCondensationBuilder}.
+     * Edges and weights match {@link #buildCondensationGraph()}; targets of
+     * each component are sorted.
+     * @param parallelism number of worker threads
+     * @return condensation DAG in CSR form
+     */
+    public GraphSnapshot buildCondensationGraphParallel(int parallelism) {
+        if (sccId == null) {
+            throw new IllegalStateException("Must call findSCCs() first");
+        }
+        return new ParallelCondensationBuilder(graph, sccId, componentCount, metrics).build(parallelism);
+    }
+
     /**
      * Gets metrics for this execution.
      * @return metrics object
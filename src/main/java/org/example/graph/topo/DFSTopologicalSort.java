@@ -1,34 +1,49 @@
 package org.example.graph.topo;
 
+import org.example.graph.common.AlgorithmPhaseEvent;
+import org.example.graph.common.EdgeCursor;
 import org.example.graph.common.Graph;
+import org.example.graph.common.GraphView;
 import org.example.graph.common.Metrics;
 
 import java.util.*;
 
 /**
  * DFS-based algorithm for topological sorting of a DAG.
+ * Uses an explicit primitive stack instead of recursion, so long chains
+ * cannot overflow the call stack. For a {@link Graph} each frame keeps its
+ * position as an int in edgePos; other GraphViews get one reusable cursor
+ * per stack depth.
  * Time complexity: O(V + E)
  * Space complexity: O(V)
  */
 public class DFSTopologicalSort {
-    private final Graph graph;
+    private static final byte UNVISITED = 0;
+    private static final byte ON_STACK = 1;
+    private static final byte DONE = 2;
+
+    private final GraphView graph;
+    private final Graph adjacency;  // graph as a Graph, or null for other views
     private final Metrics metrics;
 
-    private boolean[] visited;
-    private boolean[] recStack;
-    private Stack<Integer> stack;
-    private boolean hasCycle;
+    private byte[] state;
+    private int[] stack;      // vertices on the current DFS path
+    private int[] edgePos;    // next edge index per stack depth (Graph only)
+    private EdgeCursor[] cursors = new EdgeCursor[0]; // edge cursor per stack depth (other views)
+    private int[] order;      // topological order, filled back to front
+    private int[] cycle;      // cycle witness if a back edge was found
 
     /**
      * Constructs DFSTopologicalSort with a graph and metrics tracker.
      * @param graph the input directed acyclic graph
      * @param metrics metrics tracker
      */
-    public DFSTopologicalSort(Graph graph, Metrics metrics) {
+    public DFSTopologicalSort(GraphView graph, Metrics metrics) {
         if (!graph.isDirected()) {
             throw new IllegalArgumentException("Topological sort requires directed graph");
         }
         this.graph = graph;
+        this.adjacency = graph instanceof Graph ? (Graph) graph : null;
         this.metrics = metrics;
     }
 
@@ -37,60 +52,154 @@ public class DFSTopologicalSort {
      * @return list of vertices in topological order, or null if graph has a cycle
      */
     public List<Integer> sort() {
+        int[] result = sortToArray();
+        if (result == null) {
+            return null; // Cycle detected
+        }
+
+        List<Integer> topoOrder = new ArrayList<>(result.length);
+        for (int v : result) {
+            topoOrder.add(v);
+        }
+        return topoOrder;
+    }
+
+    /**
+     * Computes a topological ordering of the graph without boxing.
+     * If a cycle is found, the offending cycle is available via {@link #getCycle()}.
+     * @return array of vertices in topological order, or null if graph has a cycle
+     */
+    public int[] sortToArray() {
         int n = graph.getVertexCount();
-        visited = new boolean[n];
-        recStack = new boolean[n];
-        stack = new Stack<>();
-        hasCycle = false;
+        state = new byte[n];
+        stack = new int[n];
+        edgePos = adjacency != null ? new int[n] : null;
+        order = new int[n];
+        cycle = null;
 
         metrics.startTimer();
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("DFSTopologicalSort", "dfs", n);
+
+        int write = n;
+        long visits = 0;
+        long explored = 0;
 
         // Run DFS from each unvisited vertex
-        for (int i = 0; i < n; i++) {
-            if (!visited[i]) {
-                dfs(i);
-                if (hasCycle) {
-                    metrics.stopTimer();
-                    return null; // Cycle detected
+        for (int root = 0; root < n && cycle == null; root++) {
+            if (state[root] != UNVISITED) {
+                continue;
+            }
+
+            int top = 0;
+            stack[0] = root;
+            openFrame(0, root);
+            state[root] = ON_STACK;
+            visits++;
+
+            while (top >= 0) {
+                int u = stack[top];
+                int v = nextTarget(top, u);
+
+                if (v >= 0) {
+                    explored++;
+
+                    if (state[v] == UNVISITED) {
+                        stack[++top] = v;
+                        openFrame(top, v);
+                        state[v] = ON_STACK;
+                        visits++;
+                    } else if (state[v] == ON_STACK) {
+                        // Back edge found - cycle detected
+                        cycle = extractCycle(top, v);
+                        break;
+                    }
+                } else {
+                    // All neighbors finished - emit in post-order
+                    state[u] = DONE;
+                    order[--write] = u;
+                    top--;
                 }
             }
         }
 
+        phase.end(explored);
         metrics.stopTimer();
+        metrics.incrementCounter("dfs_visits", (int) visits);
+        metrics.incrementCounter("edges_explored", (int) explored);
+
+        return cycle == null ? order : null;
+    }
 
-        // Build topological order from stack
-        List<Integer> topoOrder = new ArrayList<>();
-        while (!stack.isEmpty()) {
-            topoOrder.add(stack.pop());
+    /**
+     * Starts iterating the edges of the vertex pushed at a stack depth.
+     */
+    private void openFrame(int depth, int u) {
+        if (adjacency != null) {
+            edgePos[depth] = 0;
+        } else {
+            cursorAt(depth).reset(u);
         }
+    }
 
-        return topoOrder;
+    /**
+     * Advances the frame at a stack depth to its next edge.
+     * @return target of that edge, or -1 if the vertex has no edges left
+     */
+    private int nextTarget(int depth, int u) {
+        if (adjacency != null) {
+            List<Graph.Edge> edges = adjacency.getAdjacentEdges(u);
+            return edgePos[depth] < edges.size() ? edges.get(edgePos[depth]++).to : -1;
+        }
+        EdgeCursor edges = cursors[depth];
+        return edges.next() ? edges.target() : -1;
     }
 
     /**
-     * DFS traversal for topological sorting.
-     * @param u current vertex
+     * Gets the cursor for a stack depth, creating it on first use.
      */
-    private void dfs(int u) {
-        visited[u] = true;
-        recStack[u] = true;
-        metrics.incrementCounter("dfs_visits");
-
-        for (Graph.Edge edge : graph.getAdjacentEdges(u)) {
-            int v = edge.to;
-            metrics.incrementCounter("edges_explored");
-
-            if (!visited[v]) {
-                dfs(v);
-            } else if (recStack[v]) {
-                // Back edge found - cycle detected
-                hasCycle = true;
-                return;
-            }
+    private EdgeCursor cursorAt(int depth) {
+        if (depth >= cursors.length) {
+            cursors = Arrays.copyOf(cursors, Math.max(depth + 1, cursors.length * 2));
+        }
+        if (cursors[depth] == null) {
+            cursors[depth] = graph.newCursor();
+        }
+        return cursors[depth];
+    }
+
+    /**
+     * Copies the cycle closed by the back edge stack[top] -> v.
+     * @param top index of the current stack frame
+     * @param v target of the back edge (somewhere on the stack)
+     * @return cycle as v, ..., stack[top], v
+     */
+    private int[] extractCycle(int top, int v) {
+        int start = top;
+        while (stack[start] != v) {
+            start--;
         }
+        int len = top - start + 1;
+        int[] result = new int[len + 1];
+        System.arraycopy(stack, start, result, 0, len);
+        result[len] = v;
+        return result;
+    }
 
-        recStack[u] = false;
-        stack.push(u);
+    /**
+     * Gets the cycle found by the last sort, if any.
+     * The first and last vertices are equal, so consecutive pairs are the
+     * edges of the cycle and the final pair is the back edge.
+     * @return cycle as a vertex sequence, or null if the graph is acyclic
+     */
+    public List<Integer> getCycle() {
+        if (cycle == null) {
+            return null;
+        }
+        List<Integer> result = new ArrayList<>(cycle.length);
+        for (int v : cycle) {
+            result.add(v);
+        }
+        return result;
     }
 
     /**
@@ -100,4 +209,4 @@ public class DFSTopologicalSort {
     public Metrics getMetrics() {
         return metrics;
     }
-}
\ No newline at end of file
+}
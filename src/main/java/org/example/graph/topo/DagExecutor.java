@@ -0,0 +1,293 @@
+package org.example.graph.topo;
+
+import org.example.graph.common.AlgorithmPhaseEvent;
+import org.example.graph.common.EdgeCursor;
+import org.example.graph.common.GraphView;
+import org.example.graph.common.Metrics;
+
+import java.util.*;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs one task per vertex of a DAG on a work-stealing pool, in dependency
+ * order.
+ *
+ * This is Kahn's algorithm with the queue replaced by a ForkJoin pool: every
+ * vertex keeps an atomic count of unfinished predecessors, and the task that
+ * brings a successor's count to zero forks it. All ready tasks run
+ * concurrently, so throughput is bounded by the pool size and the critical
+ * path rather than by any one topological order.
+ *
+ * Execution is fail-fast: once a task or the completion listener throws, no
+ * further tasks are released or started. Tasks already running are allowed
+ * to finish, and {@link #execute} returns once they have.
+ *
+ * Tasks should be CPU-bound. A task that blocks on I/O or locks holds its
+ * worker thread, and the pool does not add threads to make up for it. The
+ * default constructor runs on the common pool, which is shared with the
+ * rest of the JVM. Give blocking tasks a dedicated pool sized for them, or
+ * wrap the blocking calls in a {@link ForkJoinPool.ManagedBlocker}.
+ * Time complexity: O(V + E) scheduling work
+ */
+public class DagExecutor {
+    /**
+     * Work to run for one vertex.
+     */
+    @FunctionalInterface
+    public interface Task {
+        /**
+         * Runs the task of a vertex; all its predecessors have finished.
+         * @param vertex vertex id
+         * @throws Exception to fail the execution
+         */
+        void run(int vertex) throws Exception;
+    }
+
+    /**
+     * Callback for finished tasks. Called on the worker thread that ran the
+     * task, before its successors are released. If it throws, the vertex
+     * counts as failed and the run stops as if the task had thrown.
+     */
+    @FunctionalInterface
+    public interface CompletionListener {
+        /**
+         * Reports a successfully finished task.
+         * @param vertex vertex id
+         * @param elapsedNanos time spent in the task
+         */
+        void onComplete(int vertex, long elapsedNanos);
+    }
+
+    private final GraphView graph;
+    private final ForkJoinPool pool;
+    private final Metrics metrics;
+
+    /**
+     * Constructs DagExecutor running on the common ForkJoin pool.
+     * Only suitable for tasks that do not block.
+     * @param graph the task dependency DAG (edge u -> v: u must finish before v)
+     * @param metrics metrics tracker
+     */
+    public DagExecutor(GraphView graph, Metrics metrics) {
+        this(graph, ForkJoinPool.commonPool(), metrics);
+    }
+
+    /**
+     * Constructs DagExecutor running on a given ForkJoin pool.
+     * @param graph the task dependency DAG (edge u -> v: u must finish before v)
+     * @param pool pool for the tasks
+     * @param metrics metrics tracker
+     */
+    public DagExecutor(GraphView graph, ForkJoinPool pool, Metrics metrics) {
+        if (!graph.isDirected()) {
+            throw new IllegalArgumentException("DAG execution requires directed graph");
+        }
+        this.graph = graph;
+        this.pool = pool;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Outcome of an execution.
+     */
+    public static class Result {
+        public final int[] completionOrder;   // successfully finished vertices, in finishing order
+        public final int failedVertex;        // -1 if every task succeeded
+        public final Throwable failure;       // null if every task succeeded
+
+        public Result(int[] completionOrder, int failedVertex, Throwable failure) {
+            this.completionOrder = completionOrder;
+            this.failedVertex = failedVertex;
+            this.failure = failure;
+        }
+
+        /**
+         * Checks whether every task ran and succeeded.
+         * @return true on success
+         */
+        public boolean isSuccess() {
+            return failure == null;
+        }
+    }
+
+    /**
+     * Runs every task in dependency order.
+     * @param task task callback
+     * @return execution result
+     */
+    public Result execute(Task task) {
+        return execute(task, null);
+    }
+
+    /**
+     * Runs every task in dependency order, reporting finished tasks.
+     * @param task task callback
+     * @param listener completion callback, or null
+     * @return execution result; the first failure stops the run
+     */
+    public Result execute(Task task, CompletionListener listener) {
+        int n = graph.getVertexCount();
+        int[] inDegree = new int[n];
+        EdgeCursor edges = graph.newCursor();
+        for (int u = 0; u < n; u++) {
+            edges.reset(u);
+            while (edges.next()) {
+                inDegree[edges.target()]++;
+            }
+        }
+        if (!isAcyclic(inDegree, edges)) {
+            throw new IllegalArgumentException("Graph contains a cycle - not a DAG");
+        }
+
+        metrics.startTimer();
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("DagExecutor", "execute", n);
+        Run run = new Run(task, listener, inDegree, n);
+        pool.invoke(new RootTask(run, inDegree));
+        int completed = run.completed.get();
+        phase.end(completed);
+        metrics.stopTimer();
+        metrics.incrementCounter("tasks_completed", completed);
+        metrics.incrementCounter("tasks_not_run", n - completed - (run.failure.get() != null ? 1 : 0));
+
+        int[] order = Arrays.copyOf(run.completionOrder, completed);
+        Throwable failure = run.failure.get();
+        return new Result(order, failure != null ? run.failedVertex : -1, failure);
+    }
+
+    /**
+     * Runs Kahn's algorithm on a copy of the in-degrees to check for cycles.
+     * @param inDegree in-degree per vertex (not modified)
+     * @param edges cursor over the graph
+     * @return true if every vertex can be removed
+     */
+    private boolean isAcyclic(int[] inDegree, EdgeCursor edges) {
+        int n = inDegree.length;
+        int[] remaining = inDegree.clone();
+        int[] queue = new int[n];
+        int tail = 0;
+        for (int v = 0; v < n; v++) {
+            if (remaining[v] == 0) {
+                queue[tail++] = v;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            edges.reset(queue[head]);
+            while (edges.next()) {
+                int v = edges.target();
+                if (--remaining[v] == 0) {
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return tail == n;
+    }
+
+    /**
+     * Shared state of one execution.
+     */
+    private static class Run {
+        final Task task;
+        final CompletionListener listener;
+        final AtomicIntegerArray pendingPredecessors;
+        final int[] completionOrder;
+        final AtomicInteger completed = new AtomicInteger();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        volatile int failedVertex = -1;
+
+        Run(Task task, CompletionListener listener, int[] inDegree, int n) {
+            this.task = task;
+            this.listener = listener;
+            this.pendingPredecessors = new AtomicIntegerArray(inDegree);
+            this.completionOrder = new int[n];
+        }
+    }
+
+    /**
+     * Forks all source vertices and completes when every forked task has.
+     */
+    @SuppressWarnings("serial")
+    private class RootTask extends CountedCompleter<Void> {
+        private final Run run;
+        private final int[] inDegree;
+
+        RootTask(Run run, int[] inDegree) {
+            this.run = run;
+            this.inDegree = inDegree;
+        }
+
+        @Override
+        public void compute() {
+            for (int v = 0; v < inDegree.length; v++) {
+                if (inDegree[v] == 0) {
+                    addToPendingCount(1);
+                    new VertexTask(this, run, v).fork();
+                }
+            }
+            tryComplete();
+        }
+    }
+
+    /**
+     * Runs one vertex and forks the successors it makes ready.
+     */
+    @SuppressWarnings("serial")
+    private class VertexTask extends CountedCompleter<Void> {
+        private final Run run;
+        private final int vertex;
+
+        VertexTask(CountedCompleter<?> root, Run run, int vertex) {
+            super(root);
+            this.run = run;
+            this.vertex = vertex;
+        }
+
+        @Override
+        public void compute() {
+            if (run.failure.get() == null) {
+                long start = System.nanoTime();
+                boolean ok = true;
+                try {
+                    run.task.run(vertex);
+                    if (run.listener != null) {
+                        run.listener.onComplete(vertex, System.nanoTime() - start);
+                    }
+                } catch (Throwable t) {
+                    ok = false;
+                    if (run.failure.compareAndSet(null, t)) {
+                        run.failedVertex = vertex;
+                    }
+                }
+                if (ok) {
+                    run.completionOrder[run.completed.getAndIncrement()] = vertex;
+                    release();
+                }
+            }
+            tryComplete();
+        }
+
+        private void release() {
+            CountedCompleter<?> root = getCompleter();
+            EdgeCursor edges = graph.newCursor();
+            edges.reset(vertex);
+            while (edges.next()) {
+                int v = edges.target();
+                if (run.pendingPredecessors.decrementAndGet(v) == 0 && run.failure.get() == null) {
+                    root.addToPendingCount(1);
+                    new VertexTask(root, run, v).fork();
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets metrics for this execution.
+     * @return metrics object
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+}
@@ -1,6 +1,9 @@
 package org.example.graph.topo;
 
-import org.example.graph.common.Graph;
+import org.example.graph.common.AlgorithmPhaseEvent;
+import org.example.graph.common.AlgorithmWorkspace;
+import org.example.graph.common.EdgeCursor;
+import org.example.graph.common.GraphView;
 import org.example.graph.common.Metrics;
 
 import java.util.*;
@@ -11,7 +14,7 @@ import java.util.*;
  * Space complexity: O(V)
  */
 public class KahnTopologicalSort {
-    private final Graph graph;
+    private final GraphView graph;
     private final Metrics metrics;
 
     /**
@@ -19,7 +22,7 @@ public class KahnTopologicalSort {
      * @param graph the input directed acyclic graph
      * @param metrics metrics tracker
      */
-    public KahnTopologicalSort(Graph graph, Metrics metrics) {
+    public KahnTopologicalSort(GraphView graph, Metrics metrics) {
         if (!graph.isDirected()) {
             throw new IllegalArgumentException("Topological sort requires directed graph");
         }
@@ -32,55 +35,128 @@ public class KahnTopologicalSort {
      * @return list of vertices in topological order, or null if graph has a cycle
      */
     public List<Integer> sort() {
+        int[] result = sortToArray();
+        if (result == null) {
+            return null; // Graph has a cycle
+        }
+
+        List<Integer> topoOrder = new ArrayList<>(result.length);
+        for (int v : result) {
+            topoOrder.add(v);
+        }
+        return topoOrder;
+    }
+
+    /**
+     * Computes a topological ordering of the graph without boxing.
+     * The output array doubles as the FIFO queue.
+     * @return array of vertices in topological order, or null if graph has a cycle
+     */
+    public int[] sortToArray() {
         int n = graph.getVertexCount();
         int[] inDegree = new int[n];
 
         // Calculate in-degrees
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("Kahn", "in-degree", n);
+        long edgesScanned = 0;
+        EdgeCursor edges = graph.newCursor();
         for (int u = 0; u < n; u++) {
-            for (Graph.Edge edge : graph.getAdjacentEdges(u)) {
-                inDegree[edge.to]++;
+            edges.reset(u);
+            while (edges.next()) {
+                inDegree[edges.target()]++;
+                edgesScanned++;
             }
         }
+        phase.end(edgesScanned);
 
         // Initialize queue with vertices having 0 in-degree
-        Queue<Integer> queue = new LinkedList<>();
+        int[] order = new int[n];
+        int head = 0;
+        int tail = 0;
         for (int i = 0; i < n; i++) {
             if (inDegree[i] == 0) {
-                queue.offer(i);
-                metrics.incrementCounter("pushes");
+                order[tail++] = i;
             }
         }
 
-        List<Integer> topoOrder = new ArrayList<>();
-
         metrics.startTimer();
+        phase = AlgorithmPhaseEvent.begin("Kahn", "queue-processing", n);
 
         // Process vertices in topological order
-        while (!queue.isEmpty()) {
-            int u = queue.poll();
-            metrics.incrementCounter("pops");
-            topoOrder.add(u);
+        while (head < tail) {
+            int u = order[head++];
 
             // Reduce in-degree of neighbors
-            for (Graph.Edge edge : graph.getAdjacentEdges(u)) {
-                int v = edge.to;
+            edges.reset(u);
+            while (edges.next()) {
+                int v = edges.target();
                 inDegree[v]--;
 
                 if (inDegree[v] == 0) {
-                    queue.offer(v);
-                    metrics.incrementCounter("pushes");
+                    order[tail++] = v;
                 }
             }
         }
 
+        phase.end(edgesScanned);
         metrics.stopTimer();
+        metrics.incrementCounter("pushes", tail);
+        metrics.incrementCounter("pops", head);
 
         // Check if all vertices were processed (DAG check)
-        if (topoOrder.size() != n) {
+        if (tail != n) {
             return null; // Graph has a cycle
         }
 
-        return topoOrder;
+        return order;
+    }
+
+    /**
+     * Computes a topological ordering into a caller-owned array, taking all
+     * scratch memory from a workspace (slot 0). Allocates nothing once the
+     * workspace has grown to the graph size.
+     * @param order output array of length at least n; the FIFO queue while running
+     * @param workspace reusable workspace
+     * @return true if the graph is a DAG and order holds a full topological order
+     */
+    public boolean sortInto(int[] order, AlgorithmWorkspace workspace) {
+        int n = graph.getVertexCount();
+        workspace.ensureCapacity(n);
+        int[] inDegree = workspace.intArray(0);
+        Arrays.fill(inDegree, 0, n, 0);
+
+        EdgeCursor edges = workspace.cursor(graph, 0);
+        for (int u = 0; u < n; u++) {
+            edges.reset(u);
+            while (edges.next()) {
+                inDegree[edges.target()]++;
+            }
+        }
+
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (inDegree[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+
+        metrics.startTimer();
+        while (head < tail) {
+            int u = order[head++];
+            edges.reset(u);
+            while (edges.next()) {
+                int v = edges.target();
+                if (--inDegree[v] == 0) {
+                    order[tail++] = v;
+                }
+            }
+        }
+        metrics.stopTimer();
+        metrics.incrementCounter("pushes", tail);
+        metrics.incrementCounter("pops", head);
+
+        return tail == n;
     }
 
     /**
@@ -0,0 +1,343 @@
+package org.example.graph.util;
+
+import org.example.graph.common.ComponentResult;
+import org.example.graph.common.EdgeCursor;
+import org.example.graph.common.Graph;
+import org.example.graph.common.GraphView;
+import org.example.graph.common.Metrics;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.dagsp.DAGShortestPath;
+import org.example.graph.scc.TarjanSCC;
+import org.example.graph.topo.KahnTopologicalSort;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+/**
+ * Persistent on-disk cache of graph analysis results.
+ *
+ * Results are keyed by a SHA-256 hash of the graph content (vertex count,
+ * direction, weight model and every edge in order) and stored as a compact
+ * binary sidecar file named after the hash. A later run on an unchanged
+ * graph loads SCC ids, the condensation, the topological order and the
+ * critical path instead of recomputing them.
+ */
+public class AnalysisCache {
+    private static final int MAGIC = 0x47414331; // "GAC1"
+    private static final int VERSION = 1;
+    private static final String SUFFIX = ".gac";
+
+    private final Path directory;
+    private final Metrics metrics;
+
+    /**
+     * Constructs an AnalysisCache storing files in a directory.
+     * @param directory cache directory (created on first store)
+     * @param metrics metrics tracker
+     */
+    public AnalysisCache(Path directory, Metrics metrics) {
+        this.directory = directory;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Cached analysis results for one graph.
+     */
+    public static class Analysis {
+        public final byte[] contentHash;
+        public final int[] sccId;
+        public final int componentCount;
+        public final int[] condensationEdges;  // triples (from, to, weight)
+        public final int[] topologicalOrder;   // null if the graph has a cycle
+        public final int[] criticalPath;       // null if the graph has a cycle
+        public final int criticalPathLength;
+        public final boolean fromCache;
+
+        public Analysis(byte[] contentHash, int[] sccId, int componentCount, int[] condensationEdges,
+                        int[] topologicalOrder, int[] criticalPath, int criticalPathLength, boolean fromCache) {
+            this.contentHash = contentHash;
+            this.sccId = sccId;
+            this.componentCount = componentCount;
+            this.condensationEdges = condensationEdges;
+            this.topologicalOrder = topologicalOrder;
+            this.criticalPath = criticalPath;
+            this.criticalPathLength = criticalPathLength;
+            this.fromCache = fromCache;
+        }
+
+        /**
+         * Checks whether the analyzed graph is a DAG.
+         * @return true if a topological order exists
+         */
+        public boolean isDag() {
+            return topologicalOrder != null;
+        }
+
+        /**
+         * Rebuilds the condensation graph.
+         * @param weightModel weight model of the original graph
+         * @return condensation DAG
+         */
+        public Graph buildCondensation(String weightModel) {
+            Graph condensation = new Graph(componentCount, true, weightModel);
+            for (int i = 0; i < condensationEdges.length; i += 3) {
+                condensation.addEdge(condensationEdges[i], condensationEdges[i + 1], condensationEdges[i + 2]);
+            }
+            return condensation;
+        }
+    }
+
+    /**
+     * Returns cached results for a graph, computing and storing them on a miss.
+     * @param graph the input directed graph
+     * @return analysis results
+     * @throws IOException if the cache file cannot be written
+     */
+    public Analysis getOrCompute(Graph graph) throws IOException {
+        byte[] hash = contentHash(graph);
+        Path file = directory.resolve(toHex(hash) + SUFFIX);
+
+        Analysis cached = load(file, hash, graph.getVertexCount());
+        if (cached != null) {
+            metrics.incrementCounter("cache_hits");
+            return cached;
+        }
+
+        metrics.incrementCounter("cache_misses");
+        Analysis analysis = compute(graph, hash);
+        store(file, analysis);
+        return analysis;
+    }
+
+    /**
+     * Runs all analyses on a graph.
+     */
+    private Analysis compute(Graph graph, byte[] hash) {
+        metrics.startTimer();
+
+        TarjanSCC scc = new TarjanSCC(graph, new MetricsImpl());
+        ComponentResult components = scc.findComponents();
+        int componentCount = components.getComponentCount();
+        int[] sccId = components.componentOf;
+
+        Graph condensation = scc.buildCondensationGraph();
+        int[] condensationEdges = new int[condensation.getEdgeCount() * 3];
+        int k = 0;
+        for (int c = 0; c < componentCount; c++) {
+            for (Graph.Edge edge : condensation.getAdjacentEdges(c)) {
+                condensationEdges[k++] = c;
+                condensationEdges[k++] = edge.to;
+                condensationEdges[k++] = edge.weight;
+            }
+        }
+
+        int[] order = new KahnTopologicalSort(graph, new MetricsImpl()).sortToArray();
+        int[] criticalPath = null;
+        int criticalLength = 0;
+        if (order != null) {
+            DAGShortestPath.CriticalPathResult critical =
+                    new DAGShortestPath(graph, new MetricsImpl()).findCriticalPath();
+            if (critical != null) {
+                criticalPath = toArray(critical.path);
+                criticalLength = critical.length;
+            } else {
+                criticalPath = new int[0];
+            }
+        }
+
+        metrics.stopTimer();
+        return new Analysis(hash, sccId, componentCount, condensationEdges, order, criticalPath,
+                criticalLength, false);
+    }
+
+    /**
+     * Reads a cache file if it exists and matches the hash.
+     * Array lengths are checked against the vertex count and the bytes left
+     * in the file before anything is allocated.
+     * @return cached analysis, or null on a miss or an unreadable file
+     */
+    private Analysis load(Path file, byte[] hash, int n) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            long remaining = Files.size(file);
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+            byte[] stored = new byte[hash.length];
+            in.readFully(stored);
+            if (!MessageDigest.isEqual(stored, hash)) {
+                return null;
+            }
+            int componentCount = in.readInt();
+            remaining -= 12 + hash.length;
+            if (componentCount < 0 || componentCount > n) {
+                return null;
+            }
+
+            int[] sccId = readArray(in, n, remaining);
+            remaining -= byteSize(sccId);
+            int[] condensationEdges = readArray(in, Integer.MAX_VALUE, remaining);
+            remaining -= byteSize(condensationEdges);
+            int[] order = readArray(in, n, remaining);
+            remaining -= byteSize(order);
+            int[] criticalPath = readArray(in, n, remaining);
+            int criticalLength = in.readInt();
+            if (sccId == null || sccId.length != n || condensationEdges == null
+                    || (order != null && order.length != n)) {
+                return null;
+            }
+            return new Analysis(hash, sccId, componentCount, condensationEdges, order, criticalPath,
+                    criticalLength, true);
+        } catch (IOException e) {
+            // Corrupt or truncated sidecar: treat as a miss and overwrite it
+            return null;
+        }
+    }
+
+    /**
+     * Writes a cache file atomically (temporary file, then rename).
+     */
+    private void store(Path file, Analysis analysis) throws IOException {
+        Files.createDirectories(directory);
+        Path tmp = Files.createTempFile(directory, "analysis", ".tmp");
+        boolean moved = false;
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.write(analysis.contentHash);
+                out.writeInt(analysis.componentCount);
+                writeArray(out, analysis.sccId);
+                writeArray(out, analysis.condensationEdges);
+                writeArray(out, analysis.topologicalOrder);
+                writeArray(out, analysis.criticalPath);
+                out.writeInt(analysis.criticalPathLength);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            moved = true;
+        } finally {
+            if (!moved) {
+                Files.deleteIfExists(tmp);
+            }
+        }
+    }
+
+    private static void writeArray(DataOutputStream out, int[] values) throws IOException {
+        if (values == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(values.length);
+        for (int v : values) {
+            out.writeInt(v);
+        }
+    }
+
+    /**
+     * Reads a length-prefixed array; a length beyond maxLength or the bytes
+     * left in the file means the file is corrupt.
+     */
+    private static int[] readArray(DataInputStream in, int maxLength, long remainingBytes) throws IOException {
+        int length = in.readInt();
+        if (length == -1) {
+            return null;
+        }
+        if (length < 0 || length > maxLength || 4L * length > remainingBytes - 4) {
+            throw new IOException("Corrupt cache file: array length " + length);
+        }
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    private static long byteSize(int[] values) {
+        return 4 + (values == null ? 0 : 4L * values.length);
+    }
+
+    /**
+     * Hashes the full content of a graph.
+     * @param graph the graph
+     * @return SHA-256 digest
+     */
+    public static byte[] contentHash(GraphView graph) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        int n = graph.getVertexCount();
+        byte[] buf = new byte[8192];
+        int pos = putInt(buf, 0, n);
+        pos = putInt(buf, pos, graph.isDirected() ? 1 : 0);
+        digest.update(buf, 0, pos);
+        digest.update(String.valueOf(graph.getWeightModel()).getBytes(StandardCharsets.UTF_8));
+
+        pos = 0;
+        EdgeCursor edges = graph.newCursor();
+        for (int u = 0; u < n; u++) {
+            if (pos > buf.length - 4) {
+                digest.update(buf, 0, pos);
+                pos = 0;
+            }
+            pos = putInt(buf, pos, graph.getOutDegree(u));
+            edges.reset(u);
+            while (edges.next()) {
+                if (pos > buf.length - 8) {
+                    digest.update(buf, 0, pos);
+                    pos = 0;
+                }
+                pos = putInt(buf, pos, edges.target());
+                pos = putInt(buf, pos, edges.weight());
+            }
+        }
+        digest.update(buf, 0, pos);
+        return digest.digest();
+    }
+
+    private static int putInt(byte[] buf, int pos, int value) {
+        buf[pos] = (byte) (value >>> 24);
+        buf[pos + 1] = (byte) (value >>> 16);
+        buf[pos + 2] = (byte) (value >>> 8);
+        buf[pos + 3] = (byte) value;
+        return pos + 4;
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] result = new int[list.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = list.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Gets metrics for this cache.
+     * @return metrics object
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+}
@@ -0,0 +1,391 @@
+package org.example.graph.util;
+
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.common.VertexRelabeling;
+import org.example.graph.dagsp.DAGShortestPath;
+import org.example.graph.scc.TarjanSCC;
+import org.example.graph.topo.DFSTopologicalSort;
+import org.example.graph.topo.KahnTopologicalSort;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Scaling-curve benchmark driver for the graph algorithms.
+ *
+ * Sweeps TarjanSCC, both topological sorts and DAGShortestPath over random
+ * graphs of increasing size and density. Tarjan runs through the iterative
+ * findComponents(), so large graphs cannot overflow the stack. The
+ * "-relabeled" cases run the same algorithm on a copy renumbered by
+ * VertexRelabeling (reverse Cuthill-McKee for Tarjan, topological for DAG
+ * paths); relabeling time is not included. Generated vertex ids are
+ * shuffled, so the original numbering carries no locality or order.
+ * Each case gets warmup runs and then
+ * timed trials; the median, p90 and p99 times, edges per second and the
+ * median allocation per run are written as a tab-separated results file.
+ * Compare mode diffs two results files and reports every case whose median
+ * time grew by more than a threshold.
+ *
+ * Usage:
+ * <pre>
+ *   run [--out file] [--sizes 1000,10000] [--densities 2,8] [--warmup 3] [--trials 10]
+ *   compare baseline.tsv candidate.tsv [--threshold 0.10]
+ * </pre>
+ */
+public class BenchmarkRunner {
+    public static final String[] ALGORITHMS = {"tarjan", "tarjan-relabeled", "kahn", "dfs-topo",
+            "dag-shortest", "dag-shortest-relabeled"};
+    private static final String RELABELED = "-relabeled";
+    private static final String HEADER =
+            "algorithm\tvertices\tedges\ttrials\tmedian_ns\tp90_ns\tp99_ns\tedges_per_sec\talloc_bytes";
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    private final int warmup;
+    private final int trials;
+    private final long seed;
+
+    /**
+     * Constructs a BenchmarkRunner.
+     * @param warmup untimed runs per case
+     * @param trials timed runs per case
+     * @param seed random seed for graph generation
+     */
+    public BenchmarkRunner(int warmup, int trials, long seed) {
+        if (trials < 1) {
+            throw new IllegalArgumentException("At least one trial is required");
+        }
+        this.warmup = warmup;
+        this.trials = trials;
+        this.seed = seed;
+    }
+
+    /**
+     * Timing summary of one (algorithm, size, density) case.
+     */
+    public static class Result {
+        public final String algorithm;
+        public final int vertices;
+        public final int edges;
+        public final int trials;
+        public final long medianNanos;
+        public final long p90Nanos;
+        public final long p99Nanos;
+        public final double edgesPerSecond;
+        public final long allocatedBytes;   // median per run, -1 if unsupported
+
+        public Result(String algorithm, int vertices, int edges, int trials, long medianNanos,
+                      long p90Nanos, long p99Nanos, double edgesPerSecond, long allocatedBytes) {
+            this.algorithm = algorithm;
+            this.vertices = vertices;
+            this.edges = edges;
+            this.trials = trials;
+            this.medianNanos = medianNanos;
+            this.p90Nanos = p90Nanos;
+            this.p99Nanos = p99Nanos;
+            this.edgesPerSecond = edgesPerSecond;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        /**
+         * Gets the key that identifies the same case across result files.
+         * @return algorithm, vertex count and edge count
+         */
+        public String key() {
+            return algorithm + "/" + vertices + "/" + edges;
+        }
+
+        /**
+         * Formats the result as one results-file line.
+         * @return tab-separated fields
+         */
+        public String toLine() {
+            return String.join("\t", algorithm, String.valueOf(vertices), String.valueOf(edges),
+                    String.valueOf(trials), String.valueOf(medianNanos), String.valueOf(p90Nanos),
+                    String.valueOf(p99Nanos), String.format(Locale.ROOT, "%.1f", edgesPerSecond),
+                    String.valueOf(allocatedBytes));
+        }
+
+        /**
+         * Parses one results-file line.
+         * @param line tab-separated fields
+         * @return parsed result
+         */
+        public static Result parse(String line) {
+            String[] f = line.split("\t");
+            if (f.length != 9) {
+                throw new IllegalArgumentException("Malformed benchmark line: " + line);
+            }
+            return new Result(f[0], Integer.parseInt(f[1]), Integer.parseInt(f[2]), Integer.parseInt(f[3]),
+                    Long.parseLong(f[4]), Long.parseLong(f[5]), Long.parseLong(f[6]),
+                    Double.parseDouble(f[7]), Long.parseLong(f[8]));
+        }
+    }
+
+    /**
+     * Runs every algorithm on every size and density.
+     * @param sizes vertex counts
+     * @param densities average out-degrees (edges = size * density)
+     * @return one result per case
+     */
+    public List<Result> run(int[] sizes, int[] densities) {
+        List<Result> results = new ArrayList<>();
+        for (int n : sizes) {
+            for (int density : densities) {
+                int m = n * density;
+                int[] dagSource = new int[1];
+                Graph cyclic = randomGraph(n, m, false, dagSource);
+                Graph dag = randomGraph(n, m, true, dagSource);
+                Graph cyclicRelabeled = VertexRelabeling
+                        .compute(cyclic, VertexRelabeling.Strategy.REVERSE_CUTHILL_MCKEE).apply(cyclic);
+                VertexRelabeling topological = VertexRelabeling.compute(dag, VertexRelabeling.Strategy.TOPOLOGICAL);
+                Graph dagRelabeled = topological.apply(dag);
+
+                for (String algorithm : ALGORITHMS) {
+                    boolean relabeled = algorithm.endsWith(RELABELED);
+                    if (algorithm.startsWith("tarjan")) {
+                        results.add(measure(algorithm, relabeled ? cyclicRelabeled : cyclic, 0));
+                    } else if (relabeled) {
+                        results.add(measure(algorithm, dagRelabeled, topological.toNew(dagSource[0])));
+                    } else {
+                        results.add(measure(algorithm, dag, dagSource[0]));
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Times one algorithm on one graph, with vertex 0 as the path source.
+     * @param algorithm algorithm name from {@link #ALGORITHMS}
+     * @param graph input graph
+     * @return timing summary
+     */
+    public Result measure(String algorithm, Graph graph) {
+        return measure(algorithm, graph, 0);
+    }
+
+    /**
+     * Times one algorithm on one graph.
+     * @param algorithm algorithm name from {@link #ALGORITHMS}
+     * @param graph input graph
+     * @param source source vertex for path algorithms
+     * @return timing summary
+     */
+    public Result measure(String algorithm, Graph graph, int source) {
+        for (int i = 0; i < warmup; i++) {
+            runOnce(algorithm, graph, source);
+        }
+
+        long[] times = new long[trials];
+        long[] allocations = new long[trials];
+        for (int i = 0; i < trials; i++) {
+            long allocStart = threadAllocatedBytes();
+            long start = System.nanoTime();
+            runOnce(algorithm, graph, source);
+            times[i] = System.nanoTime() - start;
+            long allocEnd = threadAllocatedBytes();
+            allocations[i] = allocStart < 0 || allocEnd < 0 ? -1 : allocEnd - allocStart;
+        }
+
+        Arrays.sort(times);
+        Arrays.sort(allocations);
+        long median = percentile(times, 50);
+        int edges = graph.getEdgeCount();
+        double edgesPerSecond = median == 0 ? 0 : edges * 1e9 / median;
+        return new Result(algorithm, graph.getVertexCount(), edges, trials, median,
+                percentile(times, 90), percentile(times, 99), edgesPerSecond, percentile(allocations, 50));
+    }
+
+    private static void runOnce(String algorithm, Graph graph, int source) {
+        String base = algorithm.endsWith(RELABELED)
+                ? algorithm.substring(0, algorithm.length() - RELABELED.length()) : algorithm;
+        switch (base) {
+            case "tarjan":
+                new TarjanSCC(graph, new MetricsImpl()).findComponents();
+                break;
+            case "kahn":
+                new KahnTopologicalSort(graph, new MetricsImpl()).sortToArray();
+                break;
+            case "dfs-topo":
+                new DFSTopologicalSort(graph, new MetricsImpl()).sortToArray();
+                break;
+            case "dag-shortest":
+                new DAGShortestPath(graph, new MetricsImpl()).shortestPaths(source);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
+        }
+    }
+
+    /**
+     * Nearest-rank percentile of a sorted array.
+     */
+    private static long percentile(long[] sorted, int p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * Random graph with shuffled vertex ids. DAG edges go from lower to higher
+     * rank before shuffling; source[0] receives the id of rank 0.
+     */
+    private Graph randomGraph(int n, int m, boolean acyclic, int[] source) {
+        Random rand = new Random(seed ^ ((long) n << 20) ^ m ^ (acyclic ? 1 : 0));
+        int[] id = new int[n];
+        for (int i = 0; i < n; i++) {
+            id[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int t = id[i];
+            id[i] = id[j];
+            id[j] = t;
+        }
+        Graph graph = new Graph(n, true, "edge");
+        for (int i = 0; i < m; i++) {
+            int u = rand.nextInt(n);
+            int v = rand.nextInt(n);
+            if (u == v) {
+                continue;
+            }
+            if (acyclic) {
+                graph.addEdge(id[Math.min(u, v)], id[Math.max(u, v)], rand.nextInt(10) + 1);
+            } else {
+                graph.addEdge(id[u], id[v], rand.nextInt(10) + 1);
+            }
+        }
+        if (acyclic) {
+            source[0] = id[0];
+        }
+        return graph;
+    }
+
+    /**
+     * Writes results to a tab-separated file with a header line.
+     * @param results benchmark results
+     * @param file output file
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(List<Result> results, Path file) throws IOException {
+        List<String> lines = new ArrayList<>(results.size() + 1);
+        lines.add(HEADER);
+        for (Result r : results) {
+            lines.add(r.toLine());
+        }
+        Files.write(file, lines, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a results file written by {@link #write(List, Path)}.
+     * @param file results file
+     * @return parsed results
+     * @throws IOException if the file cannot be read
+     */
+    public static List<Result> read(Path file) throws IOException {
+        List<Result> results = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isEmpty() || line.equals(HEADER)) {
+                continue;
+            }
+            results.add(Result.parse(line));
+        }
+        return results;
+    }
+
+    /**
+     * Finds cases whose median time grew by more than a threshold.
+     * Cases present in only one file are ignored.
+     * @param baseline earlier results
+     * @param candidate new results
+     * @param threshold allowed relative slowdown, e.g. 0.10 for 10%
+     * @return one description per regression
+     */
+    public static List<String> compare(List<Result> baseline, List<Result> candidate, double threshold) {
+        Map<String, Result> base = new HashMap<>();
+        for (Result r : baseline) {
+            base.put(r.key(), r);
+        }
+        List<String> regressions = new ArrayList<>();
+        for (Result r : candidate) {
+            Result old = base.get(r.key());
+            if (old == null || old.medianNanos == 0) {
+                continue;
+            }
+            double change = (double) r.medianNanos / old.medianNanos - 1;
+            if (change > threshold) {
+                regressions.add(String.format(Locale.ROOT, "%s: median %d ns -> %d ns (+%.1f%%)",
+                        r.key(), old.medianNanos, r.medianNanos, change * 100));
+            }
+        }
+        return regressions;
+    }
+
+    private static long threadAllocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return (com.sun.management.ThreadMXBean) bean;
+        }
+        return null;
+    }
+
+    /**
+     * Command-line entry point.
+     * @param args "run ..." or "compare baseline candidate ..."
+     * @throws IOException if a results file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        List<String> positional = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].startsWith("--") && i + 1 < args.length) {
+                options.put(args[i].substring(2), args[++i]);
+            } else {
+                positional.add(args[i]);
+            }
+        }
+        String mode = positional.isEmpty() ? "run" : positional.get(0);
+
+        if (mode.equals("compare")) {
+            if (positional.size() != 3) {
+                System.err.println("Usage: compare <baseline> <candidate> [--threshold 0.10]");
+                System.exit(2);
+            }
+            double threshold = Double.parseDouble(options.getOrDefault("threshold", "0.10"));
+            List<String> regressions = compare(read(Paths.get(positional.get(1))),
+                    read(Paths.get(positional.get(2))), threshold);
+            for (String regression : regressions) {
+                System.out.println("REGRESSION " + regression);
+            }
+            System.out.println(regressions.size() + " regression(s) beyond " + (threshold * 100) + "%");
+            System.exit(regressions.isEmpty() ? 0 : 1);
+        }
+
+        BenchmarkRunner runner = new BenchmarkRunner(
+                Integer.parseInt(options.getOrDefault("warmup", "3")),
+                Integer.parseInt(options.getOrDefault("trials", "10")), 42);
+        List<Result> results = runner.run(
+                parseInts(options.getOrDefault("sizes", "1000,10000,100000")),
+                parseInts(options.getOrDefault("densities", "2,4,8")));
+        for (Result r : results) {
+            System.out.println(r.toLine());
+        }
+        Path out = Paths.get(options.getOrDefault("out", "benchmark-results.tsv"));
+        write(results, out);
+        System.out.println("Results written to " + out);
+    }
+
+    private static int[] parseInts(String csv) {
+        return Arrays.stream(csv.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+    }
+}
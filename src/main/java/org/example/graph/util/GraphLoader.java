@@ -1,12 +1,23 @@
 package org.example.graph.util;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonArray;
+import org.example.graph.common.AlgorithmPhaseEvent;
 import org.example.graph.common.Graph;
+import org.example.graph.common.GraphLoadEvent;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.common.ParallelGraphBuilder;
 
+import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Utility class for loading graphs from JSON files.
@@ -32,30 +43,121 @@ public class GraphLoader {
      * @throws IOException if file cannot be read
      */
     public static GraphData loadFromJson(String filepath) throws IOException {
+        GraphLoadEvent load = GraphLoadEvent.begin(filepath, new File(filepath).length());
+
+        AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("GraphLoader", "parse", 0);
         Gson gson = new Gson();
-        JsonObject json = gson.fromJson(new FileReader(filepath), JsonObject.class);
+        JsonObject json;
+        try (FileReader reader = new FileReader(filepath)) {
+            json = gson.fromJson(reader, JsonObject.class);
+        }
 
         boolean directed = json.get("directed").getAsBoolean();
         int n = json.get("n").getAsInt();
         String weightModel = json.has("weight_model") ?
                 json.get("weight_model").getAsString() : "edge";
 
-        Graph graph = new Graph(n, directed, weightModel);
-
         JsonArray edges = json.getAsJsonArray("edges");
+        phase.end(edges.size());
+
+        phase = AlgorithmPhaseEvent.begin("GraphLoader", "build", n);
+        Graph graph = new Graph(n, directed, weightModel);
         for (int i = 0; i < edges.size(); i++) {
             JsonObject edge = edges.get(i).getAsJsonObject();
-            int u = edge.get("u").getAsInt();
-            int v = edge.get("v").getAsInt();
-            int w = edge.has("w") ? edge.get("w").getAsInt() : 1;
+            int u = edgeInt(edge.get("u"), i, "u");
+            int v = edgeInt(edge.get("v"), i, "v");
+            int w = edge.has("w") ? edgeInt(edge.get("w"), i, "w") : 1;
             graph.addEdge(u, v, w);
         }
+        phase.end(edges.size());
 
         int source = json.has("source") ? json.get("source").getAsInt() : 0;
+        load.end(n, edges.size());
 
         return new GraphData(graph, source);
     }
 
+    /**
+     * Loads a graph from a JSON file, parsing the edges array on several threads.
+     * Same format and result as {@link #loadFromJson(String)}, including edge order.
+     * The file is memory-mapped and parsed in speculative chunks (see
+     * {@link ParallelEdgeParser}); the adjacency lists are then filled in
+     * parallel by {@link ParallelGraphBuilder}.
+     *
+     * @param filepath path to JSON file
+     * @param threads number of parser threads
+     * @return loaded Graph object
+     * @throws IOException if file cannot be read or is malformed
+     */
+    public static GraphData loadFromJsonParallel(String filepath, int threads) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, threads));
+        try (FileChannel channel = FileChannel.open(Path.of(filepath), StandardOpenOption.READ)) {
+            GraphLoadEvent load = GraphLoadEvent.begin(filepath, channel.size());
+
+            AlgorithmPhaseEvent phase = AlgorithmPhaseEvent.begin("GraphLoader", "parse-parallel", 0);
+            ParallelEdgeParser parser = new ParallelEdgeParser(channel);
+            parser.locateEdges();
+            List<int[]> chunks = parser.parseEdges(pool);
+            JsonObject json = new Gson().fromJson(parser.getHeader(), JsonObject.class);
+            long edgeCount = 0;
+            for (int[] chunk : chunks) {
+                edgeCount += chunk[0];
+            }
+            phase.end(edgeCount);
+
+            boolean directed = json.get("directed").getAsBoolean();
+            int n = json.get("n").getAsInt();
+            String weightModel = json.has("weight_model") ?
+                    json.get("weight_model").getAsString() : "edge";
+
+            phase = AlgorithmPhaseEvent.begin("GraphLoader", "build", n);
+            Graph graph = new ParallelGraphBuilder(n, directed, weightModel, new MetricsImpl()).build(chunks, pool);
+            phase.end(edgeCount);
+
+            int source = json.has("source") ? json.get("source").getAsInt() : 0;
+            load.end(n, edgeCount);
+
+            return new GraphData(graph, source);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Reads an edge field as an exact 32-bit integer. Gson's getAsInt would
+     * silently wrap or truncate out-of-range and fractional values.
+     * @throws IOException if the value is missing or not an int
+     */
+    private static int edgeInt(JsonElement value, int index, String key) throws IOException {
+        try {
+            if (value != null && value.isJsonPrimitive() && value.getAsJsonPrimitive().isNumber()) {
+                return exactInt(value.getAsString());
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IOException("Malformed edge " + index + ": \"" + key + "\" is not a 32-bit integer: " + value);
+    }
+
+    /**
+     * Parses a JSON number that must be an int, such as 7, -3, 1.0 or 2e3.
+     * Shared by the sequential and parallel loaders so both accept the same values.
+     * @param text number text
+     * @return int value
+     * @throws NumberFormatException if the number is fractional or out of int range
+     */
+    static int exactInt(String text) {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            try {
+                return new java.math.BigDecimal(text).intValueExact();
+            } catch (ArithmeticException inexact) {
+                throw new NumberFormatException("Not a 32-bit integer: " + text);
+            }
+        }
+    }
+
     /**
      * Container class for graph and source vertex.
      */
@@ -0,0 +1,495 @@
+package org.example.graph.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Multi-threaded parser for the "edges" array of a graph JSON file.
+ *
+ * Only the text before the "edges" key is scanned sequentially. The rest of
+ * the file is cut at nominal offsets into chunks that are parsed
+ * speculatively in parallel: each chunk memory-maps its range, seeks from
+ * its offset to the first element separator that looks like '}' ',' '{'
+ * (whitespace allowed), and parses edge objects from there until it reaches
+ * a separator at or past the next chunk's offset. That separator is where
+ * the next chunk should have started.
+ *
+ * The guesses are checked in file order afterwards. Chunk 0 starts right
+ * after '[' and is always right; a chunk whose predecessor was right is
+ * right if it started at the separator its predecessor stopped at.
+ * Otherwise its seek was fooled, e.g. by a "},{" inside a string or by a
+ * comment between elements, and the chunk is parsed again from the
+ * correct separator. Errors from chunks that turn out to be wrong are
+ * dropped. The chunk that reaches the closing ']' ends the array; chunks
+ * past it are ignored. Each chunk yields a primitive (u, v, w) buffer, and
+ * the buffers are returned in file order.
+ */
+class ParallelEdgeParser {
+    private static final int MAX_CHUNK_BYTES = 1 << 30;
+    private static final int MIN_CHUNK_BYTES = 1 << 20;
+    private static final int SCAN_WINDOW = 1 << 16;
+    private static final int LOOK_BEHIND = 1 << 12;
+    private static final String EDGES_KEY = "\"edges\"";
+
+    private final FileChannel channel;
+    private final long size;
+
+    // Filled by locateEdges()
+    private long keyStart;     // position of the opening quote of "edges"
+    private long arrayStart;   // first byte after '['
+
+    // Filled by parseEdges()
+    private long arrayEnd;     // position of the matching ']'
+    private int reparsedChunks;
+    private String header;     // file text outside the edges array
+
+    ParallelEdgeParser(FileChannel channel) throws IOException {
+        this.channel = channel;
+        this.size = channel.size();
+    }
+
+    /**
+     * Result of parsing one chunk.
+     */
+    private static class Chunk {
+        long start = -1;       // separator (or array start) the chunk began at, -1 if none was found
+        long next = -1;        // separator the chunk stopped at, -1 if it reached ']'
+        long arrayEnd = -1;    // position of ']' if the chunk reached it
+        int[] edges;           // {count, u0, v0, w0, ...}
+        IOException error;     // only meaningful if the chunk began at the right place
+    }
+
+    /**
+     * Finds the "edges" key of the top-level object and its '['.
+     * @throws IOException if the file has no edges array
+     */
+    void locateEdges() throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(SCAN_WINDOW);
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        boolean inComment = false;
+        long stringStart = -1;
+        int matched = 0;           // leading bytes of the current string that match edges
+        boolean expectColon = false;
+        boolean expectArray = false;
+
+        long base = 0;
+        while (base < size) {
+            window.clear();
+            int read = channel.read(window, base);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                byte c = window.get(i);
+                long position = base + i;
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                        matched = -1;
+                    } else if (c == '\\') {
+                        escaped = true;
+                        matched = -1;
+                    } else if (c == '"') {
+                        inString = false;
+                        // A key of the top-level object, if a ':' follows
+                        expectColon = depth == 1 && matched == EDGES_KEY.length() - 2;
+                    } else if (matched >= 0) {
+                        matched = matched < EDGES_KEY.length() - 2 && c == EDGES_KEY.charAt(matched + 1)
+                                ? matched + 1 : -1;
+                    }
+                } else if (inComment) {
+                    inComment = c != '\n';
+                } else if (c <= ' ') {
+                    continue;
+                } else if (c == '#') {
+                    inComment = true;
+                } else if (expectArray) {
+                    if (c != '[') {
+                        throw new IOException("Malformed graph file: \"edges\" is not an array");
+                    }
+                    arrayStart = position + 1;
+                    return;
+                } else if (expectColon && c == ':') {
+                    keyStart = stringStart;
+                    expectColon = false;
+                    expectArray = true;
+                } else {
+                    expectColon = false;
+                    if (c == '"') {
+                        inString = true;
+                        stringStart = position;
+                        matched = 0;
+                    } else if (c == '{' || c == '[') {
+                        depth++;
+                    } else if (c == '}' || c == ']') {
+                        depth--;
+                    }
+                }
+            }
+            base += read;
+        }
+        throw new IOException("Malformed graph file: no \"edges\" key");
+    }
+
+    /**
+     * Gets the file text with the edges array emptied, for header parsing.
+     * Available after {@link #parseEdges}.
+     * @return header JSON text
+     */
+    String getHeader() {
+        return header;
+    }
+
+    /**
+     * Gets the number of chunks whose speculative start was wrong and that
+     * were parsed again, by the last {@link #parseEdges}.
+     * @return re-parsed chunk count
+     */
+    int getReparsedChunks() {
+        return reparsedChunks;
+    }
+
+    /**
+     * Parses all edges on a pool.
+     * @param pool pool for the chunk tasks
+     * @return edge buffers {count, u0, v0, w0, ...} per chunk, in file order
+     * @throws IOException on read or syntax errors
+     */
+    List<int[]> parseEdges(ForkJoinPool pool) throws IOException {
+        long length = size - arrayStart;
+        int chunks = (int) Math.max(1, Math.min(pool.getParallelism() * 4L, length / MIN_CHUNK_BYTES));
+        chunks = (int) Math.max(chunks, (length + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES);
+        long[] bounds = new long[chunks + 1];
+        for (int i = 0; i <= chunks; i++) {
+            bounds[i] = arrayStart + length * i / chunks;
+        }
+
+        Chunk[] speculative = new Chunk[chunks];
+        try {
+            List<Future<Chunk>> futures = new ArrayList<>(chunks);
+            for (int i = 0; i < chunks; i++) {
+                long from = bounds[i];
+                long to = bounds[i + 1];
+                boolean first = i == 0;
+                futures.add(pool.submit(() -> first ? parseChunk(from, true, to) : seekAndParse(from, to)));
+            }
+            for (int i = 0; i < chunks; i++) {
+                speculative[i] = futures.get(i).get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while parsing edges", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Failed to parse edges", e.getCause());
+        }
+
+        // Walk the verified chain of chunks; re-parse the ones that guessed wrong
+        List<int[]> result = new ArrayList<>(chunks);
+        reparsedChunks = 0;
+        Chunk chunk = speculative[0];
+        for (int i = 0; ; ) {
+            if (chunk.error != null) {
+                throw chunk.error;
+            }
+            result.add(chunk.edges);
+            if (chunk.arrayEnd >= 0) {
+                arrayEnd = chunk.arrayEnd;
+                break;
+            }
+            if (++i == chunks) {
+                throw new IOException("Malformed graph file: unterminated \"edges\" array");
+            }
+            if (speculative[i].start != chunk.next) {
+                reparsedChunks++;
+                chunk = parseChunk(chunk.next, false, bounds[i + 1]);
+            } else {
+                chunk = speculative[i];
+            }
+        }
+
+        header = readString(0, keyStart) + EDGES_KEY + ": []" + readString(arrayEnd + 1, size);
+        return result;
+    }
+
+    /**
+     * Seeks the first '}' ',' '{' separator at or after from and parses from it.
+     */
+    private Chunk seekAndParse(long from, long to) throws IOException {
+        long mapStart = Math.max(arrayStart, from - LOOK_BEHIND);
+        MappedByteBuffer buf = map(mapStart);
+        int limit = buf.limit();
+        for (int p = (int) (from - mapStart); p < limit; p++) {
+            if (buf.get(p) != ',') {
+                continue;
+            }
+            int before = p - 1;
+            while (before >= 0 && buf.get(before) <= ' ') {
+                before--;
+            }
+            int after = skipSpace(buf, p + 1, limit);
+            if (before >= 0 && buf.get(before) == '}' && after < limit && buf.get(after) == '{') {
+                return parseChunk(mapStart + p, false, to);
+            }
+        }
+        return new Chunk();
+    }
+
+    /**
+     * Parses edge objects from an array start or separator until the first
+     * separator at or past to, or the closing ']'. Syntax errors are stored
+     * in the result, since a speculative chunk may have started in the
+     * wrong place.
+     * @param start position just after '[' (first) or of a ',' separator
+     * @param first whether start is the beginning of the array
+     * @param to nominal end of the chunk
+     */
+    private Chunk parseChunk(long start, boolean first, long to) throws IOException {
+        Chunk chunk = new Chunk();
+        chunk.start = start;
+        int[] out = new int[1 + 3 * 64];
+        int count = 0;
+        MappedByteBuffer buf = map(start);
+        int limit = buf.limit();
+        int end = (int) Math.min(limit, to - start);
+        int p = 0;
+
+        try {
+            p = skipSpaceAndComments(buf, first ? 0 : 1, limit);
+            if (first && p < limit && buf.get(p) == ']') {
+                chunk.arrayEnd = start + p;
+            } else {
+                while (true) {
+                    if (p >= limit || buf.get(p) != '{') {
+                        throw syntax(start + p, "expected '{'");
+                    }
+                    if (out.length < 1 + 3 * (count + 1)) {
+                        out = Arrays.copyOf(out, out.length * 2);
+                    }
+                    p = parseEdge(buf, p + 1, limit, start, out, 1 + 3 * count);
+                    count++;
+
+                    p = skipSpaceAndComments(buf, p, limit);
+                    byte c = p < limit ? buf.get(p) : 0;
+                    if (c == ']') {
+                        chunk.arrayEnd = start + p;
+                        break;
+                    }
+                    if (c != ',') {
+                        throw syntax(start + p, p < limit ? "expected ',' or ']'" : "unterminated \"edges\" array");
+                    }
+                    if (p >= end) {
+                        chunk.next = start + p;
+                        break;
+                    }
+                    p = skipSpaceAndComments(buf, p + 1, limit);
+                }
+            }
+        } catch (IOException e) {
+            chunk.error = e;
+        }
+
+        out[0] = count;
+        chunk.edges = out;
+        return chunk;
+    }
+
+    /**
+     * Parses the "key": value pairs of one edge object into out[at..at+2].
+     * @param p position just after '{'
+     * @return position after the closing '}'
+     */
+    private static int parseEdge(ByteBuffer buf, int p, int limit, long base, int[] out, int at) throws IOException {
+        int u = 0;
+        int v = 0;
+        int w = 1;
+        boolean hasU = false;
+        boolean hasV = false;
+
+        while (true) {
+            p = skipSpaceAndComments(buf, p, limit);
+            byte c = p < limit ? buf.get(p) : 0;
+            if (c == '}') {
+                p++;
+                break;
+            }
+            if (c == ',') {
+                p++;
+                continue;
+            }
+            if (c != '"') {
+                throw syntax(base + p, "expected key");
+            }
+            int keyStart = p + 1;
+            p = skipString(buf, p, limit, base);
+            int keyLength = p - 1 - keyStart;
+            byte key = keyLength == 1 ? buf.get(keyStart) : 0;
+
+            p = skipSpaceAndComments(buf, p, limit);
+            if (p >= limit || buf.get(p) != ':') {
+                throw syntax(base + p, "expected ':'");
+            }
+            p = skipSpaceAndComments(buf, p + 1, limit);
+            c = p < limit ? buf.get(p) : 0;
+
+            if (c == '-' || (c >= '0' && c <= '9')) {
+                int numberStart = p;
+                long value = 0;
+                boolean negative = c == '-';
+                if (negative) {
+                    p++;
+                }
+                while (p < limit && buf.get(p) >= '0' && buf.get(p) <= '9') {
+                    // Stop growing once past the int range; the check below rejects it
+                    if (value <= Integer.MAX_VALUE + 1L) {
+                        value = value * 10 + (buf.get(p) - '0');
+                    }
+                    p++;
+                }
+                int digitsEnd = p;
+                while (p < limit && "+-.eE0123456789".indexOf(buf.get(p)) >= 0) {
+                    p++;
+                }
+                if (key != 'u' && key != 'v' && key != 'w') {
+                    continue; // a number we do not use
+                }
+                int parsed;
+                if (p == digitsEnd && value <= (negative ? Integer.MAX_VALUE + 1L : Integer.MAX_VALUE)) {
+                    parsed = (int) (negative ? -value : value);
+                } else {
+                    // Fraction, exponent or overflow: same rules as the sequential loader
+                    byte[] text = new byte[p - numberStart];
+                    buf.get(numberStart, text);
+                    try {
+                        parsed = GraphLoader.exactInt(new String(text, StandardCharsets.US_ASCII));
+                    } catch (NumberFormatException e) {
+                        throw syntax(base + numberStart, "\"" + (char) key + "\" is not a 32-bit integer");
+                    }
+                }
+                if (key == 'u') {
+                    u = parsed;
+                    hasU = true;
+                } else if (key == 'v') {
+                    v = parsed;
+                    hasV = true;
+                } else {
+                    w = parsed;
+                }
+            } else if (c == '"') {
+                p = skipString(buf, p, limit, base);
+            } else if (c == '{' || c == '[') {
+                p = skipNested(buf, p, limit, base);
+            } else {
+                // true / false / null
+                while (p < limit && Character.isLetter(buf.get(p))) {
+                    p++;
+                }
+            }
+        }
+
+        if (!hasU || !hasV) {
+            throw syntax(base + p, "edge without \"u\" or \"v\"");
+        }
+        out[at] = u;
+        out[at + 1] = v;
+        out[at + 2] = w;
+        return p;
+    }
+
+    private static int skipSpace(ByteBuffer buf, int p, int limit) {
+        while (p < limit && buf.get(p) <= ' ') {
+            p++;
+        }
+        return p;
+    }
+
+    private static int skipSpaceAndComments(ByteBuffer buf, int p, int limit) {
+        while (true) {
+            p = skipSpace(buf, p, limit);
+            if (p >= limit || buf.get(p) != '#') {
+                return p;
+            }
+            while (p < limit && buf.get(p) != '\n') {
+                p++;
+            }
+        }
+    }
+
+    /**
+     * Skips a string literal starting at the opening quote.
+     * @return position after the closing quote
+     */
+    private static int skipString(ByteBuffer buf, int p, int limit, long base) throws IOException {
+        int open = p++;
+        while (p < limit && buf.get(p) != '"') {
+            if (buf.get(p) == '\\') {
+                p++;
+            }
+            p++;
+        }
+        if (p >= limit) {
+            throw syntax(base + open, "unterminated string");
+        }
+        return p + 1;
+    }
+
+    /**
+     * Skips a nested object or array value, including strings inside it.
+     * @return position after its closing bracket
+     */
+    private static int skipNested(ByteBuffer buf, int p, int limit, long base) throws IOException {
+        int open = p;
+        int depth = 0;
+        while (p < limit) {
+            byte c = buf.get(p);
+            if (c == '"') {
+                p = skipString(buf, p, limit, base);
+                continue;
+            }
+            if (c == '#') {
+                p = skipSpaceAndComments(buf, p, limit);
+                continue;
+            }
+            if (c == '{' || c == '[') {
+                depth++;
+            } else if ((c == '}' || c == ']') && --depth == 0) {
+                return p + 1;
+            }
+            p++;
+        }
+        throw syntax(base + open, "unterminated value");
+    }
+
+    private static IOException syntax(long position, String message) {
+        return new IOException("Malformed edge at byte " + position + ": " + message);
+    }
+
+    /**
+     * Maps the file from a position, as far as one buffer allows.
+     */
+    private MappedByteBuffer map(long from) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(size - from, Integer.MAX_VALUE));
+    }
+
+    private String readString(long from, long to) throws IOException {
+        if (to <= from) {
+            return "";
+        }
+        ByteBuffer buf = ByteBuffer.allocate((int) (to - from));
+        while (buf.hasRemaining()) {
+            if (channel.read(buf, from + buf.position()) <= 0) {
+                break;
+            }
+        }
+        return new String(buf.array(), 0, buf.position(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.graph.util;
+
+import org.example.graph.common.Graph;
+import org.example.graph.common.Metrics;
+import org.example.graph.common.VertexRelabeling;
+import org.example.graph.dagsp.DAGShortestPath;
+import org.example.graph.scc.TarjanSCC;
+import org.example.graph.topo.KahnTopologicalSort;
+
+import java.util.List;
+
+/**
+ * Runs the graph algorithms on a cache-friendly relabeled copy of a graph
+ * and translates every result back to the original vertex ids, so callers
+ * never see the internal numbering.
+ */
+public class RelabeledGraph {
+    private final VertexRelabeling relabeling;
+    private final Graph permuted;
+
+    /**
+     * Relabels a graph with the given strategy.
+     * @param graph the original graph
+     * @param strategy ordering strategy
+     */
+    public RelabeledGraph(Graph graph, VertexRelabeling.Strategy strategy) {
+        this.relabeling = VertexRelabeling.compute(graph, strategy);
+        this.permuted = relabeling.apply(graph);
+    }
+
+    /**
+     * Finds SCCs (Tarjan) on the relabeled graph.
+     * @param metrics metrics tracker
+     * @return SCCs over original vertex ids
+     */
+    public List<List<Integer>> findSCCs(Metrics metrics) {
+        return relabeling.mapBackComponents(new TarjanSCC(permuted, metrics).findSCCs());
+    }
+
+    /**
+     * Topological order (Kahn) of the relabeled graph.
+     * @param metrics metrics tracker
+     * @return order over original vertex ids, or null if the graph has a cycle
+     */
+    public List<Integer> topologicalOrder(Metrics metrics) {
+        return relabeling.mapBackVertices(new KahnTopologicalSort(permuted, metrics).sort());
+    }
+
+    /**
+     * Single-source shortest paths on the relabeled graph.
+     * @param source source vertex (original id)
+     * @param metrics metrics tracker
+     * @return PathResult over original vertex ids
+     */
+    public DAGShortestPath.PathResult shortestPaths(int source, Metrics metrics) {
+        return mapBack(new DAGShortestPath(permuted, metrics).shortestPaths(relabeling.toNew(source)));
+    }
+
+    /**
+     * Single-source longest paths on the relabeled graph.
+     * @param source source vertex (original id)
+     * @param metrics metrics tracker
+     * @return PathResult over original vertex ids
+     */
+    public DAGShortestPath.PathResult longestPaths(int source, Metrics metrics) {
+        return mapBack(new DAGShortestPath(permuted, metrics).longestPaths(relabeling.toNew(source)));
+    }
+
+    private DAGShortestPath.PathResult mapBack(DAGShortestPath.PathResult result) {
+        return new DAGShortestPath.PathResult(
+                relabeling.mapBackValues(result.dist),
+                relabeling.mapBackParents(result.parent),
+                relabeling.toOriginal(result.source));
+    }
+
+    /**
+     * Gets the relabeled graph the algorithms run on.
+     * @return permuted graph
+     */
+    public Graph getPermutedGraph() {
+        return permuted;
+    }
+
+    /**
+     * Gets the vertex permutation.
+     * @return relabeling
+     */
+    public VertexRelabeling getRelabeling() {
+        return relabeling;
+    }
+}
@@ -0,0 +1,88 @@
+package graph.common;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.graph.common.AlgorithmPhaseEvent;
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.scc.TarjanSCC;
+import org.example.graph.topo.KahnTopologicalSort;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for the JFR phase instrumentation.
+ */
+public class AlgorithmPhaseEventTest {
+
+    @Test
+    public void testPhasesAreRecorded() throws Exception {
+        Graph graph = new Graph(4, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 0, 1);
+        graph.addEdge(2, 3, 1);
+
+        Path file = Files.createTempFile("phases", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.example.graph.AlgorithmPhase");
+            recording.start();
+
+            new KahnTopologicalSort(graph, new MetricsImpl()).sort();
+            TarjanSCC scc = new TarjanSCC(graph, new MetricsImpl());
+            scc.findSCCs();
+            scc.findSCCs();   // same metrics object: work must not accumulate across runs
+            scc.buildCondensationGraph();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.deleteIfExists(file);
+
+        Set<String> phases = events.stream()
+                .map(e -> e.getString("algorithm") + "/" + e.getString("phase"))
+                .collect(Collectors.toSet());
+        assertTrue(phases.contains("Kahn/in-degree"));
+        assertTrue(phases.contains("Kahn/queue-processing"));
+        assertTrue(phases.contains("Tarjan/dfs"));
+        assertTrue(phases.contains("Tarjan/condensation"));
+
+        RecordedEvent inDegree = events.stream()
+                .filter(e -> "in-degree".equals(e.getString("phase")))
+                .findFirst().orElseThrow();
+        assertEquals(4, inDegree.getInt("vertices"));
+        assertEquals(4, inDegree.getLong("workItems"));
+
+        List<RecordedEvent> dfs = events.stream()
+                .filter(e -> "Tarjan".equals(e.getString("algorithm")) && "dfs".equals(e.getString("phase")))
+                .collect(Collectors.toList());
+        assertEquals(2, dfs.size());
+        for (RecordedEvent e : dfs) {
+            assertEquals(4, e.getLong("workItems"));
+        }
+    }
+
+    @Test
+    public void testAlgorithmsRunWithoutRecording() {
+        Graph graph = new Graph(2, true, "edge");
+        graph.addEdge(0, 1, 1);
+
+        // No recording active: events must be inert
+        assertNotNull(new KahnTopologicalSort(graph, new MetricsImpl()).sort());
+
+        // ...and not allocated: every disabled begin() returns the same instance
+        AlgorithmPhaseEvent first = AlgorithmPhaseEvent.begin("A", "p", 1);
+        AlgorithmPhaseEvent second = AlgorithmPhaseEvent.begin("B", "q", 2);
+        assertSame(first, second);
+        first.end(1);
+    }
+}
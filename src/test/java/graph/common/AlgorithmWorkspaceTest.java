@@ -0,0 +1,104 @@
+package graph.common;
+
+import org.example.graph.common.AlgorithmWorkspace;
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.dagsp.DAGShortestPath;
+import org.example.graph.scc.TarjanSCC;
+import org.example.graph.topo.KahnTopologicalSort;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+/**
+ * Tests for workspace-based (allocation-free) algorithm runs.
+ */
+public class AlgorithmWorkspaceTest {
+
+    @Test
+    public void testEpochClearsMarks() {
+        AlgorithmWorkspace workspace = new AlgorithmWorkspace();
+        workspace.ensureCapacity(10);
+        workspace.newEpoch();
+        workspace.mark(3);
+        assertTrue(workspace.isMarked(3));
+        assertFalse(workspace.isMarked(4));
+        workspace.newEpoch();
+        assertFalse(workspace.isMarked(3));
+        assertSame(AlgorithmWorkspace.forCurrentThread(), AlgorithmWorkspace.forCurrentThread());
+    }
+
+    @Test
+    public void testTarjanMatchesRecursive() {
+        AlgorithmWorkspace workspace = new AlgorithmWorkspace();
+        for (long seed = 0; seed < 5; seed++) {
+            Graph graph = TestGraphs.randomGraph(300, 600, true, 10, seed);
+            TarjanSCC scc = new TarjanSCC(graph, new MetricsImpl());
+            int expected = scc.findSCCs().size();
+
+            int[] sccId = new int[graph.getVertexCount()];
+            int count = scc.findSccIdsInto(sccId, workspace);
+            assertEquals(expected, count);
+            for (int v = 0; v < graph.getVertexCount(); v++) {
+                assertEquals(scc.getSccId(v), sccId[v]);
+            }
+        }
+    }
+
+    @Test
+    public void testKahnAndPathsMatch() {
+        AlgorithmWorkspace workspace = new AlgorithmWorkspace();
+        Graph dag = TestGraphs.randomDag(200, 800, 10, 3);
+        int n = dag.getVertexCount();
+        int source = TestGraphs.dagOrder(n, 3)[0];
+
+        int[] order = new int[n];
+        assertTrue(new KahnTopologicalSort(dag, new MetricsImpl()).sortInto(order, workspace));
+        assertArrayEquals(new KahnTopologicalSort(dag, new MetricsImpl()).sortToArray(), order);
+
+        DAGShortestPath sp = new DAGShortestPath(dag, new MetricsImpl());
+        int[] dist = new int[n];
+        int[] parent = new int[n];
+        sp.shortestPathsInto(source, dist, parent, workspace);
+        assertArrayEquals(sp.shortestPaths(source).dist, dist);
+        sp.longestPathsInto(source, dist, parent, workspace);
+        assertArrayEquals(sp.longestPaths(source).dist, dist);
+
+        Graph cyclic = TestGraphs.randomGraph(50, 200, true, 10, 4);
+        assertFalse(new KahnTopologicalSort(cyclic, new MetricsImpl()).sortInto(new int[50], workspace));
+    }
+
+    @Test
+    public void testSteadyStateAllocatesLittle() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        Graph dag = TestGraphs.randomDag(20000, 60000, 10, 9);
+        int n = dag.getVertexCount();
+        AlgorithmWorkspace workspace = AlgorithmWorkspace.forCurrentThread();
+        DAGShortestPath sp = new DAGShortestPath(dag, new MetricsImpl());
+        TarjanSCC scc = new TarjanSCC(dag, new MetricsImpl());
+        int[] dist = new int[n];
+        int[] parent = new int[n];
+        int[] sccId = new int[n];
+
+        for (int i = 0; i < 50; i++) {
+            sp.shortestPathsInto(i, dist, parent, workspace);
+            scc.findSccIdsInto(sccId, workspace);
+        }
+
+        int runs = 50;
+        long before = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < runs; i++) {
+            sp.shortestPathsInto(i, dist, parent, workspace);
+            scc.findSccIdsInto(sccId, workspace);
+        }
+        long perRun = (threads.getThreadAllocatedBytes(thread) - before) / runs;
+
+        // A fresh run would allocate several int[n] arrays (> 80 KB each);
+        // only a few boxed metric counters remain
+        assertTrue(perRun < 4096, "allocated " + perRun + " bytes per run");
+    }
+}
@@ -0,0 +1,107 @@
+package graph.common;
+
+import org.example.graph.common.CompressedGraph;
+import org.example.graph.common.EdgeCursor;
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.dagsp.DAGShortestPath;
+import org.example.graph.scc.TarjanSCC;
+import org.example.graph.topo.KahnTopologicalSort;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+/**
+ * Unit tests for the compressed graph backend.
+ */
+public class CompressedGraphTest {
+
+    private List<long[]> edgesOf(Graph graph, int u) {
+        List<long[]> edges = new ArrayList<>();
+        for (Graph.Edge e : graph.getAdjacentEdges(u)) {
+            edges.add(new long[]{e.to, e.weight});
+        }
+        edges.sort(Comparator.<long[]>comparingLong(a -> a[0]).thenComparingLong(a -> a[1]));
+        return edges;
+    }
+
+    @Test
+    public void testRoundTrip() {
+        Graph graph = TestGraphs.randomGraph(200, 1000, true, 10, 5);
+        graph.addEdge(3, 3, 7);     // self loop
+        graph.addEdge(199, 0, 10);  // large backward gap
+
+        CompressedGraph compressed = CompressedGraph.fromGraph(graph);
+        assertEquals(graph.getVertexCount(), compressed.getVertexCount());
+        assertEquals(graph.getEdgeCount(), compressed.getEdgeCount());
+
+        EdgeCursor cursor = compressed.newCursor();
+        for (int u = 0; u < graph.getVertexCount(); u++) {
+            List<long[]> expected = edgesOf(graph, u);
+            assertEquals(expected.size(), compressed.getOutDegree(u));
+
+            cursor.reset(u);
+            for (long[] e : expected) {
+                assertTrue(cursor.next());
+                assertEquals(e[0], cursor.target());
+                assertEquals(e[1], cursor.weight());
+            }
+            assertFalse(cursor.next());
+        }
+    }
+
+    @Test
+    public void testWideAndConstantWeights() {
+        Graph graph = new Graph(3, true, "edge");
+        graph.addEdge(0, 1, Integer.MIN_VALUE);
+        graph.addEdge(0, 2, Integer.MAX_VALUE);
+        graph.addEdge(1, 2, -5);
+
+        EdgeCursor cursor = CompressedGraph.fromGraph(graph).newCursor();
+        cursor.reset(0);
+        assertTrue(cursor.next());
+        assertEquals(Integer.MIN_VALUE, cursor.weight());
+        assertTrue(cursor.next());
+        assertEquals(Integer.MAX_VALUE, cursor.weight());
+
+        Graph constant = new Graph(3, true, "edge");
+        constant.addEdge(0, 1, 4);
+        constant.addEdge(1, 2, 4);
+        cursor = CompressedGraph.fromGraph(constant).newCursor();
+        cursor.reset(1);
+        assertTrue(cursor.next());
+        assertEquals(2, cursor.target());
+        assertEquals(4, cursor.weight());
+    }
+
+    @Test
+    public void testAlgorithmsOnCompressedGraph() {
+        Graph cyclic = TestGraphs.randomGraph(300, 600, true, 10, 8);
+        CompressedGraph compressedCyclic = CompressedGraph.fromGraph(cyclic);
+        assertEquals(new TarjanSCC(cyclic, new MetricsImpl()).findSCCs().size(),
+                new TarjanSCC(compressedCyclic, new MetricsImpl()).findSCCs().size());
+
+        Graph dag = TestGraphs.randomDag(300, 900, 10, 9);
+        CompressedGraph compressedDag = CompressedGraph.fromGraph(dag);
+        assertNotNull(new KahnTopologicalSort(compressedDag, new MetricsImpl()).sort());
+
+        DAGShortestPath.PathResult expected = new DAGShortestPath(dag, new MetricsImpl()).shortestPaths(0);
+        DAGShortestPath.PathResult actual = new DAGShortestPath(compressedDag, new MetricsImpl()).shortestPaths(0);
+        assertArrayEquals(expected.dist, actual.dist);
+
+        expected = new DAGShortestPath(dag, new MetricsImpl()).longestPaths(0);
+        actual = new DAGShortestPath(compressedDag, new MetricsImpl()).longestPaths(0);
+        assertArrayEquals(expected.dist, actual.dist);
+    }
+
+    @Test
+    public void testSmallerThanPlainArrays() {
+        Graph graph = TestGraphs.randomGraph(5000, 20000, true, 10, 10);
+        CompressedGraph compressed = CompressedGraph.fromGraph(graph);
+
+        // Plain CSR: offsets + int targets + int weights
+        long csrBytes = 4L * (graph.getVertexCount() + 1) + 8L * graph.getEdgeCount();
+        assertTrue(compressed.getMemoryBytes() * 2 < csrBytes);
+    }
+}
@@ -0,0 +1,116 @@
+package graph.common;
+
+import org.example.graph.common.Graph;
+import org.example.graph.common.GraphSnapshot;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.common.VersionedGraph;
+import org.example.graph.dagsp.DAGShortestPath;
+import org.example.graph.scc.TarjanSCC;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tests for frozen snapshots and copy-on-write versioning.
+ */
+public class GraphSnapshotTest {
+
+    private Graph chain(int n) {
+        Graph graph = new Graph(n, true, "edge");
+        for (int i = 0; i + 1 < n; i++) {
+            graph.addEdge(i, i + 1, 1);
+        }
+        return graph;
+    }
+
+    @Test
+    public void testFreezeIsIndependentCopy() {
+        Graph graph = chain(4);
+        GraphSnapshot snapshot = graph.freeze();
+        graph.addEdge(0, 3, 1);
+
+        assertEquals(3, snapshot.getEdgeCount());
+        assertEquals(1, snapshot.getOutDegree(0));
+        assertEquals(1, snapshot.getTarget(0, 0));
+        assertEquals(1, snapshot.getWeight(2, 0));
+
+        DAGShortestPath sp = new DAGShortestPath(snapshot, new MetricsImpl());
+        assertEquals(3, sp.shortestPaths(0).dist[3]);
+    }
+
+    @Test
+    public void testUndirectedRoundTrip() {
+        Graph graph = new Graph(3, false, "edge");
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(1, 2, 5);
+        graph.addEdge(2, 2, 1);
+
+        Graph thawed = graph.freeze().toGraph();
+        assertEquals(graph.getEdgeCount(), thawed.getEdgeCount());
+        for (int u = 0; u < 3; u++) {
+            assertEquals(graph.getAdjacentEdges(u).toString(), thawed.getAdjacentEdges(u).toString());
+        }
+    }
+
+    @Test
+    public void testUpdatePublishesNewVersion() {
+        VersionedGraph versioned = new VersionedGraph(chain(3));
+        GraphSnapshot before = versioned.snapshot();
+
+        GraphSnapshot after = versioned.update(g -> g.addEdge(2, 0, 1));
+        assertEquals(0, before.getVersion());
+        assertEquals(1, after.getVersion());
+        assertSame(after, versioned.snapshot());
+        assertEquals(2, before.getEdgeCount());
+        assertEquals(1, new TarjanSCC(after, new MetricsImpl()).findSCCs().size());
+
+        assertThrows(IllegalStateException.class, () -> versioned.update(g -> {
+            g.addEdge(0, 2, 1);
+            throw new IllegalStateException("rejected");
+        }));
+        assertEquals(1, versioned.getVersion());
+    }
+
+    @Test
+    public void testConcurrentReadersSeeConsistentSnapshots() throws Exception {
+        int n = 200;
+        VersionedGraph versioned = new VersionedGraph(chain(n));
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> readers = new ArrayList<>();
+
+        for (int t = 0; t < 4; t++) {
+            readers.add(pool.submit(() -> {
+                int checks = 0;
+                while (!done.get() || checks == 0) {
+                    GraphSnapshot snapshot = versioned.snapshot();
+                    // Every update reweights the whole chain to the version number
+                    int expected = (int) snapshot.getVersion() + 1;
+                    int[] dist = new DAGShortestPath(snapshot, new MetricsImpl()).shortestPaths(0).dist;
+                    assertEquals(expected * (n - 1), dist[n - 1]);
+                    checks++;
+                }
+                return checks;
+            }));
+        }
+
+        for (int version = 1; version <= 50; version++) {
+            int weight = version + 1;
+            versioned.update(g -> {
+                for (int i = 0; i + 1 < n; i++) {
+                    g.setEdgeWeight(i, i + 1, weight);
+                }
+            });
+        }
+        done.set(true);
+
+        for (Future<Integer> reader : readers) {
+            assertTrue(reader.get(30, TimeUnit.SECONDS) > 0);
+        }
+        pool.shutdown();
+        assertEquals(50, versioned.getVersion());
+    }
+}
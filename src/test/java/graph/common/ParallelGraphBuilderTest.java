@@ -0,0 +1,66 @@
+package graph.common;
+
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.common.ParallelGraphBuilder;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+/**
+ * Tests for building graphs from edge buffers in parallel.
+ */
+public class ParallelGraphBuilderTest {
+
+    /**
+     * Random edge buffers {count, u0, v0, w0, ...} of random sizes, self-loops included.
+     */
+    private List<int[]> randomBuffers(int n, int buffers, long seed) {
+        Random rand = new Random(seed);
+        List<int[]> result = new ArrayList<>();
+        for (int b = 0; b < buffers; b++) {
+            int count = rand.nextInt(3000);
+            int[] buffer = new int[1 + 3 * count + rand.nextInt(10)];  // spare capacity is ignored
+            buffer[0] = count;
+            for (int i = 0; i < count; i++) {
+                buffer[1 + 3 * i] = rand.nextInt(n);
+                buffer[2 + 3 * i] = rand.nextInt(n);
+                buffer[3 + 3 * i] = rand.nextInt(100) - 50;
+            }
+            result.add(buffer);
+        }
+        return result;
+    }
+
+    @Test
+    public void testMatchesSequentialAddEdge() {
+        for (boolean directed : new boolean[]{true, false}) {
+            int n = 5000;
+            List<int[]> buffers = randomBuffers(n, 9, directed ? 1 : 2);
+            Graph expected = new Graph(n, directed, "edge");
+            for (int[] buffer : buffers) {
+                for (int i = 0; i < buffer[0]; i++) {
+                    expected.addEdge(buffer[1 + 3 * i], buffer[2 + 3 * i], buffer[3 + 3 * i]);
+                }
+            }
+
+            Graph actual = new ParallelGraphBuilder(n, directed, "edge", new MetricsImpl()).build(buffers, 4);
+
+            assertEquals(directed, actual.isDirected());
+            assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+            for (int u = 0; u < n; u++) {
+                assertEquals(expected.getAdjacentEdges(u).toString(), actual.getAdjacentEdges(u).toString());
+            }
+            actual.addEdge(0, 1, 7);  // lists stay mutable
+            assertEquals(expected.getEdgeCount() + 1, actual.getEdgeCount());
+        }
+    }
+
+    @Test
+    public void testRejectsOutOfRangeEndpoint() {
+        List<int[]> buffers = List.of(new int[]{1, 0, 1, 1}, new int[]{1, 2, 3, 1});
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> new ParallelGraphBuilder(3, true, "edge", new MetricsImpl()).build(buffers, 2));
+    }
+}
@@ -0,0 +1,91 @@
+package graph.common;
+
+import org.example.graph.common.EdgeCursor;
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.common.ReverseIndex;
+import org.example.graph.scc.TarjanSCC;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+/**
+ * Unit tests for the reverse (in-edge) index.
+ */
+public class ReverseIndexTest {
+
+    private List<String> edgesOf(EdgeCursor cursor) {
+        List<String> edges = new ArrayList<>();
+        while (cursor.next()) {
+            edges.add(cursor.target() + ":" + cursor.weight());
+        }
+        Collections.sort(edges);
+        return edges;
+    }
+
+    @Test
+    public void testMatchesTranspose() {
+        Graph graph = TestGraphs.randomGraph(200, 800, true, 10, 7);
+        Graph transposed = graph.transpose();
+        ReverseIndex index = ReverseIndex.build(graph);
+        EdgeCursor expected = transposed.newCursor();
+
+        assertEquals(graph.getEdgeCount(), index.getEdgeCount());
+        for (int v = 0; v < graph.getVertexCount(); v++) {
+            expected.reset(v);
+            assertEquals(edgesOf(expected), edgesOf(graph.getIncomingEdges(v)));
+            assertEquals(transposed.getOutDegree(v), graph.getInDegree(v));
+        }
+    }
+
+    @Test
+    public void testSourcesAreSortedAndRandomAccess() {
+        Graph graph = new Graph(4, true, "edge");
+        graph.addEdge(3, 0, 5);
+        graph.addEdge(1, 0, 2);
+        graph.addEdge(2, 0, 7);
+
+        ReverseIndex index = graph.getReverseIndex();
+        assertEquals(3, index.getInDegree(0));
+        assertEquals(1, index.getSource(0, 0));
+        assertEquals(2, index.getWeight(0, 0));
+        assertEquals(3, index.getSource(0, 2));
+        assertEquals(0, index.getInDegree(3));
+        assertFalse(graph.getIncomingEdges(3).next());
+    }
+
+    @Test
+    public void testMutationRebuildsIndex() {
+        Graph graph = new Graph(3, true, "edge");
+        graph.addEdge(0, 1, 1);
+        assertEquals(1, graph.getInDegree(1));
+
+        graph.addEdge(2, 1, 4);
+        assertEquals(2, graph.getInDegree(1));
+
+        graph.setEdgeWeight(2, 1, 9);
+        assertEquals(9, graph.getReverseIndex().getWeight(1, 1));
+
+        graph.removeEdge(0, 1);
+        assertEquals(1, graph.getInDegree(1));
+        assertEquals(2, graph.getReverseIndex().getSource(1, 0));
+    }
+
+    @Test
+    public void testAlgorithmsRunOnTransposeView() {
+        Graph graph = TestGraphs.randomGraph(100, 300, true, 10, 11);
+        TarjanSCC forward = new TarjanSCC(graph, new MetricsImpl());
+        TarjanSCC backward = new TarjanSCC(graph.getReverseIndex(), new MetricsImpl());
+        forward.findSCCs();
+        backward.findSCCs();
+
+        // A graph and its transpose have the same strongly connected components
+        for (int u = 0; u < graph.getVertexCount(); u++) {
+            for (int v = 0; v < graph.getVertexCount(); v++) {
+                assertEquals(forward.getSccId(u) == forward.getSccId(v),
+                        backward.getSccId(u) == backward.getSccId(v));
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package graph.common;
+
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.common.SubgraphView;
+import org.example.graph.dagsp.DAGShortestPath;
+import org.example.graph.scc.TarjanSCC;
+import org.example.graph.topo.DFSTopologicalSort;
+import org.example.graph.topo.KahnTopologicalSort;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+/**
+ * Unit tests for zero-copy subgraph views.
+ */
+public class SubgraphViewTest {
+
+    /**
+     * Reference: copy the selected vertices and accepted edges into a new Graph.
+     */
+    private Graph materialize(Graph graph, SubgraphView view, SubgraphView.EdgeFilter filter) {
+        Graph copy = new Graph(view.getVertexCount(), true, graph.getWeightModel());
+        for (int local = 0; local < view.getVertexCount(); local++) {
+            int u = view.toOriginal(local);
+            for (Graph.Edge e : graph.getAdjacentEdges(u)) {
+                int target = view.toLocal(e.to);
+                if (target >= 0 && (filter == null || filter.accept(u, e.to, e.weight))) {
+                    copy.addEdge(local, target, e.weight);
+                }
+            }
+        }
+        return copy;
+    }
+
+    @Test
+    public void testBitsetViewMatchesCopy() {
+        Graph graph = TestGraphs.randomGraph(300, 1200, true, 10, 1);
+        BitSet selected = new BitSet();
+        Random rand = new Random(2);
+        for (int v = 0; v < 300; v++) {
+            if (rand.nextInt(3) > 0) {
+                selected.set(v);
+            }
+        }
+        SubgraphView.EdgeFilter filter = SubgraphView.EdgeFilter.maxWeight(6);
+        SubgraphView view = SubgraphView.of(graph, selected, filter);
+        Graph copy = materialize(graph, view, filter);
+
+        assertEquals(selected.cardinality(), view.getVertexCount());
+        assertEquals(copy.getEdgeCount(), view.getEdgeCount());
+        for (int v = 0; v < view.getVertexCount(); v++) {
+            assertEquals(copy.getOutDegree(v), view.getOutDegree(v));
+            assertEquals(v, view.toLocal(view.toOriginal(v)));
+        }
+
+        List<List<Integer>> expected = new TarjanSCC(copy, new MetricsImpl()).findSCCs();
+        assertEquals(expected, new TarjanSCC(view, new MetricsImpl()).findSCCs());
+    }
+
+    @Test
+    public void testRangeViewOnDag() {
+        Graph graph = TestGraphs.randomDag(400, 1600, 10, 3);
+        SubgraphView view = SubgraphView.ofRange(graph, 100, 250, null);
+        Graph copy = materialize(graph, view, null);
+        int source = -1;
+        for (int v : TestGraphs.dagOrder(400, 3)) {
+            if (source < 0 && view.toLocal(v) >= 0) {
+                source = view.toLocal(v);  // earliest in-range vertex of the hidden order
+            }
+        }
+
+        assertEquals(150, view.getVertexCount());
+        assertEquals(100, view.toOriginal(0));
+        assertEquals(-1, view.toLocal(99));
+        assertEquals(-1, view.toLocal(250));
+
+        assertArrayEquals(new KahnTopologicalSort(copy, new MetricsImpl()).sortToArray(),
+                new KahnTopologicalSort(view, new MetricsImpl()).sortToArray());
+        assertArrayEquals(new DFSTopologicalSort(copy, new MetricsImpl()).sortToArray(),
+                new DFSTopologicalSort(view, new MetricsImpl()).sortToArray());
+        assertArrayEquals(new DAGShortestPath(copy, new MetricsImpl()).shortestPaths(source).dist,
+                new DAGShortestPath(view, new MetricsImpl()).shortestPaths(source).dist);
+        assertArrayEquals(new DAGShortestPath(copy, new MetricsImpl()).longestPaths(source).dist,
+                new DAGShortestPath(view, new MetricsImpl()).longestPaths(source).dist);
+    }
+
+    @Test
+    public void testEdgeFilterBreaksCycle() {
+        Graph graph = new Graph(3, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 0, 9);
+
+        assertNull(new DFSTopologicalSort(graph, new MetricsImpl()).sort());
+        SubgraphView light = SubgraphView.filterEdges(graph, SubgraphView.EdgeFilter.maxWeight(5));
+        assertEquals(Arrays.asList(0, 1, 2), new DFSTopologicalSort(light, new MetricsImpl()).sort());
+        assertEquals(2, light.getEdgeCount());
+    }
+}
@@ -0,0 +1,86 @@
+package graph.common;
+
+import org.example.graph.common.Graph;
+
+import java.util.*;
+
+/**
+ * Seeded random graph factories shared by the tests.
+ *
+ * Random DAGs put their edges along a hidden topological order and then
+ * shuffle the vertex ids, so an edge u -> v says nothing about whether
+ * u < v. Algorithms that only work by accident on id-ordered input fail
+ * here instead of passing.
+ */
+public final class TestGraphs {
+    private TestGraphs() {
+    }
+
+    /**
+     * Builds a random graph with uniformly chosen endpoints. Self-loops and
+     * parallel edges may occur.
+     * @param n vertex count
+     * @param m edge count
+     * @param directed whether the graph is directed
+     * @param maxWeight edge weights are drawn from 1..maxWeight
+     * @param seed random seed
+     * @return random graph
+     */
+    public static Graph randomGraph(int n, int m, boolean directed, int maxWeight, long seed) {
+        Random rand = new Random(seed);
+        Graph graph = new Graph(n, directed, "edge");
+        for (int i = 0; i < m; i++) {
+            graph.addEdge(rand.nextInt(n), rand.nextInt(n), rand.nextInt(maxWeight) + 1);
+        }
+        return graph;
+    }
+
+    /**
+     * Builds a random DAG with shuffled vertex ids. Every edge goes forward
+     * in {@link #dagOrder}; parallel edges may occur.
+     * @param n vertex count, at least 2
+     * @param m edge count
+     * @param maxWeight edge weights are drawn from 1..maxWeight
+     * @param seed random seed
+     * @return random DAG
+     */
+    public static Graph randomDag(int n, int m, int maxWeight, long seed) {
+        Random rand = new Random(seed);
+        int[] order = shuffledIds(n, rand);
+        Graph graph = new Graph(n, true, "edge");
+        for (int i = 0; i < m; i++) {
+            int a = rand.nextInt(n);
+            int b = rand.nextInt(n - 1);
+            if (b >= a) {
+                b++;
+            }
+            graph.addEdge(order[Math.min(a, b)], order[Math.max(a, b)], rand.nextInt(maxWeight) + 1);
+        }
+        return graph;
+    }
+
+    /**
+     * Gets the hidden topological order of randomDag(n, m, maxWeight, seed).
+     * Its first entry is a source from which most of the DAG is reachable.
+     * @param n vertex count
+     * @param seed random seed passed to randomDag
+     * @return vertex ids by rank
+     */
+    public static int[] dagOrder(int n, long seed) {
+        return shuffledIds(n, new Random(seed));
+    }
+
+    private static int[] shuffledIds(int n, Random rand) {
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = rand.nextInt(i + 1);
+            int t = ids[i];
+            ids[i] = ids[j];
+            ids[j] = t;
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,114 @@
+package graph.common;
+
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.common.VertexRelabeling;
+import org.example.graph.dagsp.DAGShortestPath;
+import org.example.graph.scc.TarjanSCC;
+import org.example.graph.util.RelabeledGraph;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+/**
+ * Unit tests for vertex relabeling.
+ */
+public class VertexRelabelingTest {
+
+    @Test
+    public void testEveryStrategyIsPermutation() {
+        Graph graph = TestGraphs.randomDag(50, 120, 10, 1);
+        for (VertexRelabeling.Strategy strategy : VertexRelabeling.Strategy.values()) {
+            VertexRelabeling relabeling = VertexRelabeling.compute(graph, strategy);
+            boolean[] seen = new boolean[50];
+            for (int v = 0; v < 50; v++) {
+                int id = relabeling.toNew(v);
+                assertFalse(seen[id]);
+                seen[id] = true;
+                assertEquals(v, relabeling.toOriginal(id));
+            }
+            assertEquals(graph.getEdgeCount(), relabeling.apply(graph).getEdgeCount());
+        }
+    }
+
+    @Test
+    public void testTopologicalStrategyOrdersEdgesForward() {
+        Graph graph = TestGraphs.randomDag(40, 100, 10, 2);
+        Graph permuted = VertexRelabeling.compute(graph, VertexRelabeling.Strategy.TOPOLOGICAL).apply(graph);
+        for (int u = 0; u < permuted.getVertexCount(); u++) {
+            for (Graph.Edge e : permuted.getAdjacentEdges(u)) {
+                assertTrue(u < e.to);
+            }
+        }
+    }
+
+    @Test
+    public void testTopologicalStrategyRejectsCycle() {
+        Graph graph = new Graph(2, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 0, 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> VertexRelabeling.compute(graph, VertexRelabeling.Strategy.TOPOLOGICAL));
+    }
+
+    @Test
+    public void testReverseCuthillMcKeeReducesBandwidth() {
+        // A path whose vertex ids are scrambled
+        int n = 100;
+        Graph graph = new Graph(n, true, "edge");
+        for (int i = 0; i + 1 < n; i++) {
+            graph.addEdge((i * 37) % n, ((i + 1) * 37) % n, 1);
+        }
+        Graph permuted = VertexRelabeling.compute(graph, VertexRelabeling.Strategy.REVERSE_CUTHILL_MCKEE).apply(graph);
+
+        assertTrue(bandwidth(graph) > 1);
+        assertEquals(1, bandwidth(permuted));
+    }
+
+    private int bandwidth(Graph graph) {
+        int max = 0;
+        for (int u = 0; u < graph.getVertexCount(); u++) {
+            for (Graph.Edge e : graph.getAdjacentEdges(u)) {
+                max = Math.max(max, Math.abs(u - e.to));
+            }
+        }
+        return max;
+    }
+
+    @Test
+    public void testRelabeledResultsMatchOriginal() {
+        Graph graph = TestGraphs.randomDag(80, 200, 10, 3);
+        DAGShortestPath.PathResult expected = new DAGShortestPath(graph, new MetricsImpl()).longestPaths(0);
+        TarjanSCC tarjan = new TarjanSCC(graph, new MetricsImpl());
+        Set<List<Integer>> expectedSccs = new HashSet<>(tarjan.findSCCs());
+
+        for (VertexRelabeling.Strategy strategy : VertexRelabeling.Strategy.values()) {
+            RelabeledGraph relabeled = new RelabeledGraph(graph, strategy);
+
+            DAGShortestPath.PathResult actual = relabeled.longestPaths(0, new MetricsImpl());
+            assertArrayEquals(expected.dist, actual.dist);
+            assertEquals(0, actual.source);
+            for (int v = 0; v < 80; v++) {
+                List<Integer> path = actual.reconstructPath(v);
+                if (path != null) {
+                    assertEquals(0, path.get(0).intValue());
+                    assertEquals(v, path.get(path.size() - 1).intValue());
+                }
+            }
+
+            assertEquals(expectedSccs, new HashSet<>(relabeled.findSCCs(new MetricsImpl())));
+
+            List<Integer> order = relabeled.topologicalOrder(new MetricsImpl());
+            int[] position = new int[80];
+            for (int i = 0; i < order.size(); i++) {
+                position[order.get(i)] = i;
+            }
+            for (int u = 0; u < 80; u++) {
+                for (Graph.Edge e : graph.getAdjacentEdges(u)) {
+                    assertTrue(position[u] < position[e.to]);
+                }
+            }
+        }
+    }
+}
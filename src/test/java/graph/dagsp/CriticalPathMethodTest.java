@@ -0,0 +1,108 @@
+package graph.dagsp;
+
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.dagsp.CriticalPathMethod;
+import org.example.graph.dagsp.DAGShortestPath;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Unit tests for the Critical Path Method engine.
+ */
+public class CriticalPathMethodTest {
+
+    @Test
+    public void testScheduleOnDiamond() {
+        // 0 -> 1 (3), 0 -> 2 (2), 1 -> 3 (4), 2 -> 3 (1), 3 -> 4 (5)
+        Graph graph = new Graph(5, true, "edge");
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(0, 2, 2);
+        graph.addEdge(1, 3, 4);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 4, 5);
+
+        CriticalPathMethod cpm = new CriticalPathMethod(graph, new MetricsImpl());
+        CriticalPathMethod.Schedule schedule = cpm.compute();
+
+        assertEquals(12, schedule.projectLength);
+        assertArrayEquals(new int[]{0, 3, 2, 7, 12}, schedule.earliestStart);
+        assertArrayEquals(new int[]{0, 3, 6, 7, 12}, schedule.latestStart);
+        assertArrayEquals(new int[]{0, 0, 4, 0, 0}, schedule.slack);
+
+        assertFalse(schedule.isCritical(2));
+        assertEquals(3, schedule.getCriticalEdgeCount());
+        assertArrayEquals(new int[]{0, 1, 3}, schedule.criticalFrom);
+        assertArrayEquals(new int[]{1, 3, 4}, schedule.criticalTo);
+
+        assertEquals(List.of(0, 1, 3, 4), cpm.criticalPath(schedule));
+    }
+
+    @Test
+    public void testParallelCriticalChains() {
+        // Two equally long chains: both are fully critical
+        Graph graph = new Graph(4, true, "edge");
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(1, 3, 2);
+        graph.addEdge(0, 2, 1);
+        graph.addEdge(2, 3, 3);
+
+        CriticalPathMethod.Schedule schedule = new CriticalPathMethod(graph, new MetricsImpl()).compute();
+        assertEquals(4, schedule.getCriticalEdgeCount());
+        for (int v = 0; v < 4; v++) {
+            assertTrue(schedule.isCritical(v));
+        }
+    }
+
+    @Test
+    public void testMatchesAllPairsLongestPath() {
+        Random rand = new Random(21);
+        int n = 70;
+        Graph graph = new Graph(n, true, "edge");
+        for (int i = 0; i < 200; i++) {
+            int u = rand.nextInt(n);
+            int v = rand.nextInt(n);
+            if (u != v) {
+                graph.addEdge(Math.min(u, v), Math.max(u, v), rand.nextInt(10) + 1);
+            }
+        }
+
+        DAGShortestPath dagSP = new DAGShortestPath(graph, new MetricsImpl());
+        int best = 0;
+        for (int s = 0; s < n; s++) {
+            for (int d : dagSP.longestPaths(s).dist) {
+                best = Math.max(best, d);
+            }
+        }
+
+        CriticalPathMethod cpm = new CriticalPathMethod(graph, new MetricsImpl());
+        CriticalPathMethod.Schedule schedule = cpm.compute();
+        assertEquals(best, schedule.projectLength);
+
+        List<Integer> path = cpm.criticalPath(schedule);
+        int length = 0;
+        for (int i = 0; i + 1 < path.size(); i++) {
+            int u = path.get(i);
+            int v = path.get(i + 1);
+            length += graph.getAdjacentEdges(u).stream().filter(e -> e.to == v)
+                    .mapToInt(e -> e.weight).max().orElseThrow();
+        }
+        assertEquals(best, length);
+
+        for (int v = 0; v < n; v++) {
+            assertTrue(schedule.slack[v] >= 0);
+        }
+    }
+
+    @Test
+    public void testCycleRejected() {
+        Graph graph = new Graph(2, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 0, 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> new CriticalPathMethod(graph, new MetricsImpl()).compute());
+    }
+}
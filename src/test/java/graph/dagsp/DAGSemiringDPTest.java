@@ -0,0 +1,118 @@
+package graph.dagsp;
+
+import graph.common.TestGraphs;
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.dagsp.DAGSemiringDP;
+import org.example.graph.dagsp.DAGShortestPath;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+/**
+ * Tests for semiring dynamic programming over DAGs.
+ */
+public class DAGSemiringDPTest {
+
+    /**
+     * Brute-force enumeration of all paths from u, applying fn at every reached vertex.
+     */
+    private void enumerate(Graph graph, int u, int length, int bottleneck, double reliability, long[] counts,
+                           int[] minLen, int[] maxLen, int[] widest, double[] reliable) {
+        counts[u]++;
+        minLen[u] = Math.min(minLen[u], length);
+        maxLen[u] = Math.max(maxLen[u], length);
+        widest[u] = Math.max(widest[u], bottleneck);
+        reliable[u] = Math.max(reliable[u], reliability);
+        for (Graph.Edge e : graph.getAdjacentEdges(u)) {
+            enumerate(graph, e.to, length + e.weight, Math.min(bottleneck, e.weight), reliability * e.weight / 100.0,
+                    counts, minLen, maxLen, widest, reliable);
+        }
+    }
+
+    @Test
+    public void testAllSemiringsMatchPathEnumeration() {
+        for (long seed = 0; seed < 5; seed++) {
+            int n = 14;
+            Graph graph = TestGraphs.randomDag(n, 30, 100, seed);
+            int source = TestGraphs.dagOrder(n, seed)[0];
+            long[] counts = new long[n];
+            int[] minLen = new int[n];
+            int[] maxLen = new int[n];
+            int[] widest = new int[n];
+            double[] reliable = new double[n];
+            Arrays.fill(minLen, Integer.MAX_VALUE);
+            Arrays.fill(maxLen, Integer.MIN_VALUE);
+            Arrays.fill(widest, Integer.MIN_VALUE);
+            enumerate(graph, source, 0, Integer.MAX_VALUE, 1.0, counts, minLen, maxLen, widest, reliable);
+
+            DAGSemiringDP dp = new DAGSemiringDP(graph, new MetricsImpl());
+            assertArrayEquals(counts, dp.countPaths(source));
+            assertArrayEquals(minLen, dp.solve(source, DAGSemiringDP.MIN_PLUS, null));
+            assertArrayEquals(maxLen, dp.solve(source, DAGSemiringDP.MAX_PLUS, null));
+            assertArrayEquals(widest, dp.bottleneckCapacities(source));
+            assertArrayEquals(reliable, dp.solve(source, DAGSemiringDP.reliability(100)), 1e-12);
+        }
+    }
+
+    @Test
+    public void testParentsMatchShortestPath() {
+        Graph graph = TestGraphs.randomDag(500, 3000, 100, 7);
+        int source = TestGraphs.dagOrder(500, 7)[3];
+        DAGSemiringDP dp = new DAGSemiringDP(graph, new MetricsImpl());
+        DAGShortestPath.PathResult expected = new DAGShortestPath(graph, new MetricsImpl()).longestPaths(source);
+
+        int[] parent = new int[500];
+        int[] dist = dp.solve(source, DAGSemiringDP.MAX_PLUS, parent);
+        assertArrayEquals(expected.dist, dist);
+        assertArrayEquals(expected.parent, parent);
+    }
+
+    @Test
+    public void testDedicatedKernelsMatchGenericKernel() {
+        Graph graph = TestGraphs.randomDag(500, 3000, 100, 11);
+        int source = TestGraphs.dagOrder(500, 11)[2];
+        DAGSemiringDP dp = new DAGSemiringDP(graph, new MetricsImpl());
+        for (DAGSemiringDP.IntSemiring builtIn
+                : List.of(DAGSemiringDP.MIN_PLUS, DAGSemiringDP.MAX_PLUS, DAGSemiringDP.MAX_MIN)) {
+            // A wrapper is not one of the constants, so it runs on the generic kernel
+            DAGSemiringDP.IntSemiring wrapped = new DAGSemiringDP.IntSemiring() {
+                public int zero() { return builtIn.zero(); }
+                public int one() { return builtIn.one(); }
+                public int plus(int a, int b) { return builtIn.plus(a, b); }
+                public int times(int a, int weight) { return builtIn.times(a, weight); }
+            };
+            int[] expectedParent = new int[500];
+            int[] parent = new int[500];
+            assertArrayEquals(dp.solve(source, wrapped, expectedParent), dp.solve(source, builtIn, parent));
+            assertArrayEquals(expectedParent, parent);
+        }
+    }
+
+    @Test
+    public void testPathCountSaturates() {
+        // 70 diamonds in a row: 2^70 paths
+        int diamonds = 70;
+        Graph graph = new Graph(3 * diamonds + 1, true, "edge");
+        for (int i = 0; i < diamonds; i++) {
+            int base = 3 * i;
+            graph.addEdge(base, base + 1, 1);
+            graph.addEdge(base, base + 2, 1);
+            graph.addEdge(base + 1, base + 3, 1);
+            graph.addEdge(base + 2, base + 3, 1);
+        }
+        long[] counts = new DAGSemiringDP(graph, new MetricsImpl()).countPaths(0);
+        assertEquals(1L << 10, counts[30]);
+        assertEquals(Long.MAX_VALUE, counts[3 * diamonds]);
+    }
+
+    @Test
+    public void testCyclicGraphRejected() {
+        Graph graph = new Graph(2, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 0, 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> new DAGSemiringDP(graph, new MetricsImpl()).countPaths(0));
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
+import java.util.Random;
 
 /**
  * Unit tests for DAG Shortest/Longest Path algorithms.
@@ -170,4 +171,75 @@ public class DAGShortestPathTest {
             dagSP.shortestPaths(0);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPointToPointMatchesSingleSource() {
+        Random rand = new Random(17);
+        Graph graph = new Graph(300, true, "edge");
+        for (int i = 0; i < 900; i++) {
+            int u = rand.nextInt(300);
+            int v = rand.nextInt(300);
+            if (u != v) {
+                graph.addEdge(Math.min(u, v), Math.max(u, v), rand.nextInt(10) + 1);
+            }
+        }
+
+        DAGShortestPath dagSP = new DAGShortestPath(graph, new MetricsImpl());
+        for (int s = 0; s < 300; s += 37) {
+            DAGShortestPath.PathResult shortest = dagSP.shortestPaths(s);
+            DAGShortestPath.PathResult longest = dagSP.longestPaths(s);
+            for (int t = 0; t < 300; t += 13) {
+                DAGShortestPath.PointToPointResult sp = dagSP.shortestPath(s, t);
+                DAGShortestPath.PointToPointResult lp = dagSP.longestPath(s, t);
+                if (shortest.dist[t] == Integer.MAX_VALUE) {
+                    assertNull(sp);
+                    assertNull(lp);
+                    continue;
+                }
+                assertEquals(shortest.dist[t], sp.distance);
+                assertEquals(longest.dist[t], lp.distance);
+                assertEquals(s, (int) sp.path.get(0));
+                assertEquals(t, (int) sp.path.get(sp.path.size() - 1));
+                assertEquals(sp.distance, pathWeight(graph, sp.path, false));
+                assertEquals(lp.distance, pathWeight(graph, lp.path, true));
+            }
+        }
+    }
+
+    private int pathWeight(Graph graph, List<Integer> path, boolean longest) {
+        int total = 0;
+        for (int i = 0; i + 1 < path.size(); i++) {
+            int best = longest ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+            for (Graph.Edge e : graph.getAdjacentEdges(path.get(i))) {
+                if (e.to == path.get(i + 1)) {
+                    best = longest ? Math.max(best, e.weight) : Math.min(best, e.weight);
+                }
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    @Test
+    public void testPointToPointPrunesUnrelatedVertices() {
+        // 0 -> 1 -> 2 is the query; 3..9 hang off 0 but never reach 2
+        Graph graph = new Graph(10, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        for (int v = 3; v < 10; v++) {
+            graph.addEdge(0, v, 1);
+        }
+
+        MetricsImpl metrics = new MetricsImpl();
+        DAGShortestPath.PointToPointResult result = new DAGShortestPath(graph, metrics).shortestPath(0, 2);
+        assertEquals(List.of(0, 1, 2), result.path);
+        assertEquals(2, result.distance);
+        assertEquals(10, result.verticesTouched);
+        assertEquals(2, metrics.getCounter("relaxations"));
+
+        assertNull(new DAGShortestPath(graph, new MetricsImpl()).shortestPath(1, 5));
+        DAGShortestPath.PointToPointResult self = new DAGShortestPath(graph, new MetricsImpl()).shortestPath(4, 4);
+        assertEquals(List.of(4), self.path);
+        assertEquals(0, self.distance);
+    }
+}
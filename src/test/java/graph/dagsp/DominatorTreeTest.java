@@ -0,0 +1,123 @@
+package graph.dagsp;
+
+import graph.common.TestGraphs;
+import org.example.graph.common.EdgeCursor;
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.dagsp.DominatorTree;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+/**
+ * Tests for dominator and post-dominator trees.
+ */
+public class DominatorTreeTest {
+
+    /**
+     * Reference: d dominates v iff v is unreachable from the root once d is removed.
+     */
+    private boolean[] reachableWithout(Graph graph, int root, int removed, boolean reversed) {
+        int n = graph.getVertexCount();
+        Graph g = reversed ? graph.transpose() : graph;
+        boolean[] seen = new boolean[n];
+        if (root == removed) {
+            return seen;
+        }
+        Deque<Integer> stack = new ArrayDeque<>();
+        stack.push(root);
+        seen[root] = true;
+        EdgeCursor edges = g.newCursor();
+        while (!stack.isEmpty()) {
+            edges.reset(stack.pop());
+            while (edges.next()) {
+                int v = edges.target();
+                if (v != removed && !seen[v]) {
+                    seen[v] = true;
+                    stack.push(v);
+                }
+            }
+        }
+        return seen;
+    }
+
+    private void assertMatchesReference(Graph graph, int root, DominatorTree.Result result, boolean reversed) {
+        int n = graph.getVertexCount();
+        boolean[] reachable = reachableWithout(graph, root, -1, reversed);
+        for (int d = 0; d < n; d++) {
+            boolean[] without = reachableWithout(graph, root, d, reversed);
+            for (int v = 0; v < n; v++) {
+                boolean expected = reachable[v] && reachable[d] && (d == v || !without[v]);
+                assertEquals(expected, result.dominates(d, v), d + " dominates " + v);
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            assertEquals(reachable[v], result.isReachable(v));
+            if (reachable[v] && v != root) {
+                assertTrue(result.dominates(result.idom[v], v));
+                // The immediate dominator is the closest strict dominator
+                assertEquals(result.getDominators(v).length - 1, result.getDominators(result.idom[v]).length);
+            }
+        }
+    }
+
+    @Test
+    public void testDiamond() {
+        Graph graph = new Graph(5, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(0, 2, 1);
+        graph.addEdge(1, 3, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 4, 1);
+
+        DominatorTree tree = new DominatorTree(graph, new MetricsImpl());
+        DominatorTree.Result dom = tree.dominators(0);
+        assertArrayEquals(new int[]{-1, 0, 0, 0, 3}, dom.idom);
+        assertArrayEquals(new int[]{4, 3, 0}, dom.getDominators(4));
+        assertEquals(5, dom.getDominatedCount(0));
+        assertFalse(dom.dominates(1, 3));
+
+        DominatorTree.Result post = tree.postDominators(4);
+        assertArrayEquals(new int[]{3, 3, 3, 4, -1}, post.idom);
+        assertTrue(post.dominates(3, 0));
+    }
+
+    @Test
+    public void testRandomDagsMatchReference() {
+        for (long seed = 0; seed < 5; seed++) {
+            Graph graph = TestGraphs.randomDag(40, 90, 1, seed);
+            int[] order = TestGraphs.dagOrder(40, seed);
+            int source = order[0];
+            int sink = order[39];
+            DominatorTree tree = new DominatorTree(graph, new MetricsImpl());
+            assertMatchesReference(graph, source, tree.dominators(source), false);
+            assertMatchesReference(graph, sink, tree.postDominators(sink), true);
+            assertEquals(2, tree.getMetrics().getCounter("passes"));  // one pass per query
+        }
+    }
+
+    @Test
+    public void testRandomCyclicGraphsMatchReference() {
+        for (long seed = 0; seed < 5; seed++) {
+            Graph graph = TestGraphs.randomGraph(40, 70, true, 1, seed);
+            DominatorTree tree = new DominatorTree(graph, new MetricsImpl());
+            assertMatchesReference(graph, 3, tree.dominators(3), false);
+            assertMatchesReference(graph, 7, tree.postDominators(7), true);
+        }
+    }
+
+    @Test
+    public void testUnreachableVertices() {
+        Graph graph = new Graph(4, true, "edge");
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 1);
+
+        DominatorTree.Result dom = new DominatorTree(graph, new MetricsImpl()).dominators(2);
+        assertFalse(dom.isReachable(1));
+        assertFalse(dom.isReachable(0));
+        assertEquals(0, dom.getDominators(1).length);
+        assertFalse(dom.dominates(1, 3));
+        assertEquals(2, dom.idom[3]);
+    }
+}
@@ -0,0 +1,139 @@
+package graph.dagsp;
+
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.dagsp.DAGShortestPath;
+import org.example.graph.dagsp.DynamicDAGPaths;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+/**
+ * Unit tests for incremental DAG path maintenance.
+ */
+public class DynamicDAGPathsTest {
+
+    private Graph diamond() {
+        // Diamond: 0 -> 1,2 -> 3 -> 4
+        Graph graph = new Graph(5, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(0, 2, 4);
+        graph.addEdge(1, 3, 2);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 4, 1);
+        return graph;
+    }
+
+    @Test
+    public void testWeightIncreaseReroutes() {
+        Graph graph = diamond();
+        DynamicDAGPaths paths = new DynamicDAGPaths(graph, 0, DynamicDAGPaths.Mode.SHORTEST, new MetricsImpl());
+        assertEquals(3, paths.getDistance(3));
+
+        int[] changed = paths.updateEdgeWeight(0, 1, 10);
+
+        assertArrayEquals(new int[]{1, 3, 4}, changed);
+        assertEquals(10, paths.getDistance(1));
+        assertEquals(5, paths.getDistance(3)); // now via 0->2->3
+        assertEquals(6, paths.getDistance(4));
+    }
+
+    @Test
+    public void testUnaffectedUpdateReportsNothing() {
+        Graph graph = diamond();
+        DynamicDAGPaths paths = new DynamicDAGPaths(graph, 0, DynamicDAGPaths.Mode.SHORTEST, new MetricsImpl());
+
+        // 0->2->3 is not on the shortest path to 3, so only vertex 2 changes
+        int[] changed = paths.updateEdgeWeight(0, 2, 5);
+        assertArrayEquals(new int[]{2}, changed);
+    }
+
+    @Test
+    public void testRemoveEdgeMakesUnreachable() {
+        Graph graph = diamond();
+        DynamicDAGPaths paths = new DynamicDAGPaths(graph, 0, DynamicDAGPaths.Mode.LONGEST, new MetricsImpl());
+        paths.removeEdge(3, 4);
+
+        assertEquals(Integer.MIN_VALUE, paths.getDistance(4));
+        assertNull(paths.getResult().reconstructPath(4));
+    }
+
+    @Test
+    public void testInsertAgainstTopologicalOrder() {
+        // 0 -> 1, 2 -> 3; then insert 3 -> 0 which forces a reorder
+        Graph graph = new Graph(4, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(2, 3, 1);
+
+        DynamicDAGPaths paths = new DynamicDAGPaths(graph, 2, DynamicDAGPaths.Mode.SHORTEST, new MetricsImpl());
+        paths.addEdge(3, 0, 2);
+
+        assertEquals(3, paths.getDistance(0));
+        assertEquals(4, paths.getDistance(1));
+
+        int[] order = paths.getTopologicalOrder();
+        int[] position = new int[4];
+        for (int i = 0; i < order.length; i++) {
+            position[order[i]] = i;
+        }
+        assertTrue(position[2] < position[3]);
+        assertTrue(position[3] < position[0]);
+        assertTrue(position[0] < position[1]);
+    }
+
+    @Test
+    public void testInsertRejectsCycle() {
+        Graph graph = diamond();
+        DynamicDAGPaths paths = new DynamicDAGPaths(graph, 0, DynamicDAGPaths.Mode.SHORTEST, new MetricsImpl());
+
+        assertThrows(IllegalArgumentException.class, () -> paths.addEdge(4, 0, 1));
+        assertEquals(5, graph.getEdgeCount()); // graph left untouched
+    }
+
+    @Test
+    public void testMatchesRecomputation() {
+        Random rand = new Random(7);
+        int n = 60;
+        Graph graph = new Graph(n, true, "edge");
+        for (int i = 0; i < 150; i++) {
+            int u = rand.nextInt(n);
+            int v = rand.nextInt(n);
+            if (u != v) {
+                graph.addEdge(Math.min(u, v), Math.max(u, v), rand.nextInt(10) + 1);
+            }
+        }
+
+        for (DynamicDAGPaths.Mode mode : DynamicDAGPaths.Mode.values()) {
+            Graph g = graph.transpose().transpose();
+            DynamicDAGPaths paths = new DynamicDAGPaths(g, 0, mode, new MetricsImpl());
+
+            for (int step = 0; step < 200; step++) {
+                int u = rand.nextInt(n);
+                int v = rand.nextInt(n);
+                if (u == v) {
+                    continue;
+                }
+                int kind = rand.nextInt(3);
+                boolean hasEdge = g.getAdjacentEdges(u).stream().anyMatch(e -> e.to == v);
+                if (kind == 0 && hasEdge) {
+                    paths.updateEdgeWeight(u, v, rand.nextInt(10) + 1);
+                } else if (kind == 1 && hasEdge) {
+                    paths.removeEdge(u, v);
+                } else {
+                    try {
+                        paths.addEdge(u, v, rand.nextInt(10) + 1);
+                    } catch (IllegalArgumentException cycle) {
+                        // Rejected insertions leave the structure unchanged
+                    }
+                }
+
+                DAGShortestPath dagSP = new DAGShortestPath(g, new MetricsImpl());
+                DAGShortestPath.PathResult expected = mode == DynamicDAGPaths.Mode.SHORTEST
+                        ? dagSP.shortestPaths(0)
+                        : dagSP.longestPaths(0);
+                assertArrayEquals(expected.dist, paths.getResult().dist);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package graph.dagsp;
+
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.dagsp.DAGShortestPath;
+import org.example.graph.dagsp.ParallelDAGPaths;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests for wavefront-parallel DAG path relaxation.
+ */
+public class ParallelDAGPathsTest {
+
+    /**
+     * Wide, shallow DAG: vertices in `layers` layers, edges to later layers only.
+     */
+    private Graph layeredDag(int layers, int width, int m, long seed) {
+        Random rand = new Random(seed);
+        int n = layers * width;
+        Graph graph = new Graph(n, true, "edge");
+        for (int i = 0; i < m; i++) {
+            int lu = rand.nextInt(layers - 1);
+            int lv = lu + 1 + rand.nextInt(Math.min(2, layers - 1 - lu));
+            // Small weight range so many ties exercise the parent tie-break
+            graph.addEdge(lu * width + rand.nextInt(width), lv * width + rand.nextInt(width), rand.nextInt(3) + 1);
+        }
+        return graph;
+    }
+
+    @Test
+    public void testMatchesSequentialResults() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long seed = 0; seed < 3; seed++) {
+                Graph graph = layeredDag(8, 2000, 40000, seed);
+                ParallelDAGPaths parallel = new ParallelDAGPaths(graph, pool, new MetricsImpl());
+                DAGShortestPath sequential = new DAGShortestPath(graph, new MetricsImpl());
+
+                for (int source : new int[]{0, 5, 2500}) {
+                    DAGShortestPath.PathResult expected = sequential.shortestPaths(source);
+                    DAGShortestPath.PathResult actual = parallel.shortestPaths(source);
+                    assertArrayEquals(expected.dist, actual.dist);
+                    assertArrayEquals(expected.parent, actual.parent);
+
+                    expected = sequential.longestPaths(source);
+                    actual = parallel.longestPaths(source);
+                    assertArrayEquals(expected.dist, actual.dist);
+                    assertArrayEquals(expected.parent, actual.parent);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testLevelsAndRelaxationCount() {
+        Graph graph = new Graph(5, true, "edge");
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(0, 2, 1);
+        graph.addEdge(2, 1, 1);
+        graph.addEdge(1, 3, 1);
+
+        MetricsImpl metrics = new MetricsImpl();
+        ParallelDAGPaths paths = new ParallelDAGPaths(graph, metrics);
+        assertEquals(4, paths.getLevelCount());
+
+        DAGShortestPath.PathResult result = paths.shortestPaths(0);
+        assertEquals(2, result.dist[1]);
+        assertEquals(0, result.parent[1]); // tie with 0->2->1 goes to the earlier predecessor
+        assertEquals(Arrays.asList(0, 1, 3), result.reconstructPath(3));
+        assertEquals(Integer.MAX_VALUE, result.dist[4]);
+        assertEquals(4, metrics.getCounter("relaxations"));
+    }
+
+    @Test
+    public void testCycleIsRejected() {
+        Graph graph = new Graph(2, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 0, 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelDAGPaths(graph, new MetricsImpl()).shortestPaths(0));
+    }
+}
@@ -0,0 +1,83 @@
+package graph.dagsp;
+
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.common.VersionedGraph;
+import org.example.graph.dagsp.DAGShortestPath;
+import org.example.graph.dagsp.PathQueryCache;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the LRU path query cache.
+ */
+public class PathQueryCacheTest {
+
+    private Graph chain(int n) {
+        Graph graph = new Graph(n, true, "edge");
+        for (int i = 0; i + 1 < n; i++) {
+            graph.addEdge(i, i + 1, 2);
+        }
+        return graph;
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        Graph graph = chain(10);
+        PathQueryCache cache = new PathQueryCache(new VersionedGraph(graph), 1 << 20, new MetricsImpl());
+
+        DAGShortestPath.PathResult first = cache.shortestPaths(0);
+        DAGShortestPath.PathResult second = cache.shortestPaths(0);
+        DAGShortestPath.PathResult longest = cache.longestPaths(0);
+
+        assertSame(first, second);
+        assertNotSame(first, longest);
+        assertArrayEquals(new DAGShortestPath(graph, new MetricsImpl()).shortestPaths(0).dist, first.dist);
+        assertEquals(1, cache.getMetrics().getCounter("cache_hits"));
+        assertEquals(2, cache.getMetrics().getCounter("cache_misses"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedUnderByteBudget() {
+        int n = 100;
+        long entryBytes = 8L * n + 96;
+        PathQueryCache cache = new PathQueryCache(new VersionedGraph(chain(n)), 2 * entryBytes, new MetricsImpl());
+
+        cache.shortestPaths(0);
+        cache.shortestPaths(1);
+        cache.shortestPaths(0);   // 0 is now most recent
+        cache.shortestPaths(2);   // evicts 1
+
+        assertEquals(2, cache.size());
+        assertEquals(2 * entryBytes, cache.getBytes());
+        assertEquals(1, cache.getMetrics().getCounter("cache_evictions"));
+
+        cache.shortestPaths(0);
+        assertEquals(2, cache.getMetrics().getCounter("cache_hits"));
+        cache.shortestPaths(1);
+        assertEquals(4, cache.getMetrics().getCounter("cache_misses"));
+    }
+
+    @Test
+    public void testResultsLargerThanBudgetAreNotStored() {
+        PathQueryCache cache = new PathQueryCache(new VersionedGraph(chain(100)), 100, new MetricsImpl());
+        assertNotNull(cache.shortestPaths(0));
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getBytes());
+    }
+
+    @Test
+    public void testInvalidatedOnUpdate() {
+        VersionedGraph graph = new VersionedGraph(chain(5));
+        PathQueryCache cache = new PathQueryCache(graph, 1 << 20, new MetricsImpl());
+
+        assertEquals(8, cache.shortestPaths(0).dist[4]);
+        graph.update(g -> g.addEdge(0, 4, 1));
+        assertEquals(1, cache.shortestPaths(0).dist[4]);
+
+        assertEquals(1, cache.getMetrics().getCounter("cache_invalidations"));
+        assertEquals(0, cache.getMetrics().getCounter("cache_hits"));
+        assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,182 @@
+package graph.dagsp;
+
+import graph.common.TestGraphs;
+import org.example.graph.common.EdgeCursor;
+import org.example.graph.common.Graph;
+import org.example.graph.common.GraphView;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.dagsp.TransitiveReduction;
+import org.example.graph.scc.TarjanSCC;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests for DAG transitive reduction.
+ */
+public class TransitiveReductionTest {
+
+    private BitSet[] closure(GraphView graph) {
+        int n = graph.getVertexCount();
+        BitSet[] reach = new BitSet[n];
+        EdgeCursor edges = graph.newCursor();
+        for (int s = 0; s < n; s++) {
+            reach[s] = new BitSet(n);
+            Deque<Integer> stack = new ArrayDeque<>();
+            stack.push(s);
+            while (!stack.isEmpty()) {
+                int u = stack.pop();
+                edges.reset(u);
+                while (edges.next()) {
+                    if (!reach[s].get(edges.target())) {
+                        reach[s].set(edges.target());
+                        stack.push(edges.target());
+                    }
+                }
+            }
+        }
+        return reach;
+    }
+
+    @Test
+    public void testDiamondWithShortcut() {
+        Graph graph = new Graph(4, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(0, 2, 1);
+        graph.addEdge(1, 3, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(0, 3, 5);   // implied by 0 -> 1 -> 3
+        graph.addEdge(0, 1, 2);   // parallel copy
+
+        TransitiveReduction.Result result = new TransitiveReduction(graph, new MetricsImpl()).reduce();
+
+        assertEquals(6, result.originalEdges);
+        assertEquals(1, result.transitiveEdgesRemoved);
+        assertEquals(1, result.duplicateEdgesRemoved);
+        assertEquals(4, result.getKeptEdges());
+        assertEquals(4, result.reduced.getEdgeCount());
+        List<Graph.Edge> fromZero = result.reduced.getAdjacentEdges(0);
+        assertEquals(2, fromZero.size());
+        assertEquals(1, fromZero.get(0).to);
+        assertEquals(1, fromZero.get(0).weight);  // first copy kept
+        assertEquals(2, fromZero.get(1).to);
+    }
+
+    @Test
+    public void testCopiesOfTransitiveEdgeCountAsTransitive() {
+        Graph graph = new Graph(3, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(0, 2, 1);   // implied by 0 -> 1 -> 2
+        graph.addEdge(0, 2, 1);   // parallel copy of the implied edge
+
+        TransitiveReduction.Result result = new TransitiveReduction(graph, new MetricsImpl()).reduce();
+
+        assertEquals(2, result.transitiveEdgesRemoved);
+        assertEquals(0, result.duplicateEdgesRemoved);
+        assertEquals(2, result.getKeptEdges());
+    }
+
+    @Test
+    public void testPreservesReachabilityAndIsMinimal() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long seed = 0; seed < 5; seed++) {
+                Graph graph = TestGraphs.randomDag(300, 3000, 10, seed);
+                TransitiveReduction.Result result = new TransitiveReduction(graph, new MetricsImpl()).reduce(pool);
+                Graph reduced = result.reduced;
+
+                BitSet[] expected = closure(graph);
+                assertArrayEquals(expected, closure(reduced));
+                assertEquals(result.getKeptEdges(), reduced.getEdgeCount());
+
+                // Every kept edge is necessary: its target is unreachable through the other successors
+                EdgeCursor edges = reduced.newCursor();
+                for (int u = 0; u < reduced.getVertexCount(); u++) {
+                    List<Integer> successors = new ArrayList<>();
+                    edges.reset(u);
+                    while (edges.next()) {
+                        successors.add(edges.target());
+                    }
+                    for (int v : successors) {
+                        for (int w : successors) {
+                            assertFalse(w != v && expected[w].get(v), "edge " + u + " -> " + v + " is redundant");
+                        }
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testCondensationGraph() {
+        Graph graph = new Graph(6, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 0, 1);   // SCC {0, 1}
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 2, 1);   // SCC {2, 3}
+        graph.addEdge(0, 4, 1);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 5, 1);
+        graph.addEdge(0, 5, 1);
+
+        TarjanSCC tarjan = new TarjanSCC(graph, new MetricsImpl());
+        tarjan.findSCCs();
+        Graph condensation = tarjan.buildCondensationGraph();
+        TransitiveReduction.Result result = new TransitiveReduction(condensation, new MetricsImpl()).reduce();
+
+        assertArrayEquals(closure(condensation), closure(result.reduced));
+        assertEquals(3, result.reduced.getEdgeCount());
+    }
+
+    @Test
+    public void testSparseDagStaysSmall() {
+        // Half of the vertices are sinks; dense n-bit bitsets would allocate about 2.5 GB
+        int n = 200_000;
+        Graph graph = new Graph(n, true, "edge");
+        Random rand = new Random(3);
+        int[] order = TestGraphs.dagOrder(n, 3);
+        for (int i = 0; i < n; i++) {
+            int from = rand.nextInt(n / 2);
+            int to = from + 1 + rand.nextInt(n - 1 - from);
+            graph.addEdge(order[from], order[to], 1);
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            long before = allocatedBytes(threads);
+            TransitiveReduction.Result result = new TransitiveReduction(graph, new MetricsImpl()).reduce(pool);
+            long allocated = allocatedBytes(threads) - before;
+
+            assertEquals(n, result.originalEdges);
+            assertTrue(allocated < 400_000_000L, "allocated " + allocated + " bytes");
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static long allocatedBytes(com.sun.management.ThreadMXBean threads) {
+        long total = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            total += Math.max(bytes, 0);
+        }
+        return total;
+    }
+
+    @Test
+    public void testCyclicGraphRejected() {
+        Graph graph = new Graph(2, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 0, 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> new TransitiveReduction(graph, new MetricsImpl()).reduce());
+    }
+}
@@ -0,0 +1,99 @@
+package graph.distributed;
+
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.dagsp.DAGShortestPath;
+import org.example.graph.distributed.ShardCoordinator;
+import org.example.graph.scc.TarjanSCC;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+/**
+ * Tests for sharded SCC computation with local worker processes.
+ */
+public class ShardCoordinatorTest {
+
+    @Test
+    public void testCycleSpanningShards() throws Exception {
+        // Cycle 0 -> 1 -> 2 -> 3 -> 0 crosses both shard boundaries, 3 -> 4 -> 5 is a tail
+        Graph graph = new Graph(6, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 0, 1);
+        graph.addEdge(3, 4, 2);
+        graph.addEdge(4, 5, 3);
+
+        ShardCoordinator coordinator = new ShardCoordinator(3, new MetricsImpl());
+        ShardCoordinator.ShardedResult result = coordinator.computeSCCs(graph);
+
+        assertEquals(3, result.componentCount);
+        assertEquals(result.sccId[0], result.sccId[3]);
+        assertNotEquals(result.sccId[3], result.sccId[4]);
+        assertEquals(2, result.condensation.getEdgeCount());
+
+        DAGShortestPath.PathResult longest = result.longestPaths(0);
+        assertEquals(5, longest.dist[result.sccId[5]]);
+    }
+
+    @Test
+    public void testMatchesSingleProcessTarjan() throws Exception {
+        Random rand = new Random(11);
+        int n = 300;
+        Graph graph = new Graph(n, true, "edge");
+        for (int i = 0; i < 450; i++) {
+            graph.addEdge(rand.nextInt(n), rand.nextInt(n), rand.nextInt(10) + 1);
+        }
+
+        TarjanSCC tarjan = new TarjanSCC(graph, new MetricsImpl());
+        int expectedCount = tarjan.findSCCs().size();
+
+        ShardCoordinator.ShardedResult result = new ShardCoordinator(4, new MetricsImpl()).computeSCCs(graph);
+
+        assertEquals(expectedCount, result.componentCount);
+        assertEquals(tarjan.buildCondensationGraph().getEdgeCount(), result.condensation.getEdgeCount());
+        for (int u = 0; u < n; u++) {
+            for (Graph.Edge edge : graph.getAdjacentEdges(u)) {
+                boolean sameExpected = tarjan.getSccId(u) == tarjan.getSccId(edge.to);
+                boolean sameActual = result.sccId[u] == result.sccId[edge.to];
+                assertEquals(sameExpected, sameActual);
+            }
+        }
+    }
+
+    @Test
+    public void testDeepShardDoesNotOverflow() throws Exception {
+        // One long cycle inside each shard: recursive Tarjan would need a 150k-frame stack
+        int half = 150_000;
+        Graph graph = new Graph(2 * half, true, "edge");
+        for (int s = 0; s < 2; s++) {
+            int base = s * half;
+            for (int i = 0; i < half; i++) {
+                graph.addEdge(base + i, base + (i + 1) % half, 1);
+            }
+        }
+        graph.addEdge(0, half, 1);
+
+        ShardCoordinator.ShardedResult result = new ShardCoordinator(2, new MetricsImpl()).computeSCCs(graph);
+
+        assertEquals(2, result.componentCount);
+        assertEquals(1, result.condensation.getEdgeCount());
+    }
+
+    @Test
+    public void testLongChainAcrossShardsDoesNotOverflow() throws Exception {
+        // Acyclic: every vertex is its own block, so the block graph is a 300k chain
+        int n = 300_000;
+        Graph graph = new Graph(n, true, "edge");
+        for (int i = 0; i + 1 < n; i++) {
+            graph.addEdge(i, i + 1, 1);
+        }
+
+        ShardCoordinator.ShardedResult result = new ShardCoordinator(2, new MetricsImpl()).computeSCCs(graph);
+
+        assertEquals(n, result.componentCount);
+        assertEquals(n - 1, result.condensation.getEdgeCount());
+    }
+}
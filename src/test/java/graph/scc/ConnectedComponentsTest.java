@@ -0,0 +1,94 @@
+package graph.scc;
+
+import graph.common.TestGraphs;
+import org.example.graph.common.ComponentResult;
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.scc.ConnectedComponents;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Tests for parallel union-find connected components.
+ */
+public class ConnectedComponentsTest {
+
+    /**
+     * Reference labeling by BFS, numbering components by smallest vertex.
+     */
+    private int[] bfsComponents(Graph graph) {
+        int n = graph.getVertexCount();
+        Graph undirected = new Graph(n, false, "edge");
+        for (int u = 0; u < n; u++) {
+            for (Graph.Edge e : graph.getAdjacentEdges(u)) {
+                if (graph.isDirected() || u <= e.to) {
+                    undirected.addEdge(u, e.to, 1);
+                }
+            }
+        }
+        int[] label = new int[n];
+        Arrays.fill(label, -1);
+        int count = 0;
+        for (int s = 0; s < n; s++) {
+            if (label[s] != -1) {
+                continue;
+            }
+            Deque<Integer> queue = new ArrayDeque<>();
+            queue.add(s);
+            label[s] = count;
+            while (!queue.isEmpty()) {
+                for (Graph.Edge e : undirected.getAdjacentEdges(queue.poll())) {
+                    if (label[e.to] == -1) {
+                        label[e.to] = count;
+                        queue.add(e.to);
+                    }
+                }
+            }
+            count++;
+        }
+        return label;
+    }
+
+    @Test
+    public void testSmallUndirectedGraph() {
+        Graph graph = new Graph(7, false, "edge");
+        graph.addEdge(5, 1, 1);
+        graph.addEdge(1, 3, 1);
+        graph.addEdge(2, 6, 1);
+        graph.addEdge(4, 4, 1);
+
+        ComponentResult result = new ConnectedComponents(graph, new MetricsImpl()).findComponents();
+
+        assertEquals(4, result.getComponentCount());
+        assertArrayEquals(new int[]{0, 1, 2, 1, 3, 1, 2}, result.componentOf);
+        assertArrayEquals(new int[]{1, 3, 5}, result.getMembers(1));
+    }
+
+    @Test
+    public void testParallelMatchesBfs() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long seed = 0; seed < 4; seed++) {
+                Graph graph = TestGraphs.randomGraph(50000, 30000 + (int) seed * 10000, false, 1, seed);
+                ComponentResult result = new ConnectedComponents(graph, pool, new MetricsImpl()).findComponents();
+                assertArrayEquals(bfsComponents(graph), result.componentOf);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testDirectedGraphGivesWeakComponents() {
+        Graph graph = TestGraphs.randomGraph(5000, 4000, true, 1, 9);
+        MetricsImpl metrics = new MetricsImpl();
+        ComponentResult result = new ConnectedComponents(graph, metrics).findComponents();
+
+        int[] expected = bfsComponents(graph);
+        assertArrayEquals(expected, result.componentOf);
+        assertEquals(5000 - result.getComponentCount(), metrics.getCounter("links"));
+    }
+}
@@ -0,0 +1,103 @@
+package graph.scc;
+
+import graph.common.TestGraphs;
+import org.example.graph.common.EdgeCursor;
+import org.example.graph.common.Graph;
+import org.example.graph.common.GraphSnapshot;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.scc.ParallelCondensationBuilder;
+import org.example.graph.scc.TarjanSCC;
+import org.example.graph.topo.KahnTopologicalSort;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+/**
+ * Tests for parallel condensation construction.
+ */
+public class ParallelCondensationBuilderTest {
+
+    private List<String> sortedEdges(Graph graph) {
+        List<String> edges = new ArrayList<>();
+        for (int u = 0; u < graph.getVertexCount(); u++) {
+            for (Graph.Edge e : graph.getAdjacentEdges(u)) {
+                edges.add(u + "->" + e.to + ":" + e.weight);
+            }
+        }
+        Collections.sort(edges);
+        return edges;
+    }
+
+    private List<String> sortedEdges(GraphSnapshot graph) {
+        List<String> edges = new ArrayList<>();
+        EdgeCursor cursor = graph.newCursor();
+        for (int u = 0; u < graph.getVertexCount(); u++) {
+            cursor.reset(u);
+            int previous = -1;
+            while (cursor.next()) {
+                assertTrue(cursor.target() > previous, "targets must be sorted");
+                previous = cursor.target();
+                edges.add(u + "->" + cursor.target() + ":" + cursor.weight());
+            }
+        }
+        Collections.sort(edges);
+        return edges;
+    }
+
+    @Test
+    public void testMatchesSequentialBuilder() {
+        for (long seed = 0; seed < 4; seed++) {
+            // Sparse enough to leave many components, large enough for several chunks
+            Graph graph = TestGraphs.randomGraph(20000, 22000, true, 10, seed);
+            TarjanSCC scc = new TarjanSCC(graph, new MetricsImpl());
+            scc.findSCCs();
+
+            Graph sequential = scc.buildCondensationGraph();
+            GraphSnapshot parallel = scc.buildCondensationGraphParallel(4);
+
+            assertEquals(sequential.getVertexCount(), parallel.getVertexCount());
+            assertEquals(sequential.getEdgeCount(), parallel.getEdgeCount());
+            assertEquals(sortedEdges(sequential), sortedEdges(parallel));
+            assertNotNull(new KahnTopologicalSort(parallel, new MetricsImpl()).sortToArray());
+        }
+    }
+
+    @Test
+    public void testParallelEdgesKeepFirstWeight() {
+        Graph graph = new Graph(4, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 0, 1);
+        graph.addEdge(0, 2, 7);
+        graph.addEdge(1, 2, 3);
+        graph.addEdge(2, 3, 5);
+
+        int[] sccId = {0, 0, 1, 2};
+        MetricsImpl metrics = new MetricsImpl();
+        GraphSnapshot condensation = new ParallelCondensationBuilder(graph, sccId, 3, metrics).build(2);
+
+        assertEquals(2, condensation.getEdgeCount());
+        assertEquals(1, condensation.getTarget(0, 0));
+        assertEquals(7, condensation.getWeight(0, 0));
+        assertEquals(5, condensation.getWeight(1, 0));
+        assertEquals(3, metrics.getCounter("inter_component_edges"));
+        assertEquals(2, metrics.getCounter("condensation_edges"));
+    }
+
+    @Test
+    public void testEmptyAndSingleComponent() {
+        Graph empty = new Graph(0, true, "edge");
+        assertEquals(0, new ParallelCondensationBuilder(empty, new int[0], 0, new MetricsImpl())
+                .build(2).getVertexCount());
+
+        Graph cycle = new Graph(3, true, "edge");
+        cycle.addEdge(0, 1, 1);
+        cycle.addEdge(1, 2, 1);
+        cycle.addEdge(2, 0, 1);
+        TarjanSCC scc = new TarjanSCC(cycle, new MetricsImpl());
+        scc.findSCCs();
+        GraphSnapshot condensation = scc.buildCondensationGraphParallel(2);
+        assertEquals(1, condensation.getVertexCount());
+        assertEquals(0, condensation.getEdgeCount());
+    }
+}
@@ -1,5 +1,6 @@
 package graph.scc;
 
+import org.example.graph.common.ComponentResult;
 import org.example.graph.common.Graph;
 import org.example.graph.common.MetricsImpl;
 import org.example.graph.scc.TarjanSCC;
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.List;
+import java.util.Random;
 
 /**
  * Unit tests for TarjanSCC algorithm.
@@ -127,4 +129,28 @@ public class TarjanSCCTest {
         assertTrue(metrics.getCounter("dfs_visits") >= 5);
         assertTrue(metrics.getElapsedTimeNanos() > 0);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testFlatComponentsMatchLists() {
+        Random rand = new Random(21);
+        Graph graph = new Graph(500, true, "edge");
+        for (int i = 0; i < 700; i++) {
+            graph.addEdge(rand.nextInt(500), rand.nextInt(500), 1);
+        }
+
+        List<List<Integer>> expected = new TarjanSCC(graph, new MetricsImpl()).findSCCs();
+        TarjanSCC scc = new TarjanSCC(graph, new MetricsImpl());
+        ComponentResult components = scc.findComponents();
+
+        assertEquals(expected.size(), components.getComponentCount());
+        assertEquals(expected, components.asLists());
+        assertSame(components.asLists(), components.asLists());
+        for (int c = 0; c < components.getComponentCount(); c++) {
+            assertEquals(expected.get(c).size(), components.size(c));
+            for (int i = 0; i < components.size(c); i++) {
+                assertEquals(c, components.getComponent(components.member(c, i)));
+            }
+        }
+        assertEquals(expected.size(), scc.buildCondensationGraph().getVertexCount());
+    }
+}
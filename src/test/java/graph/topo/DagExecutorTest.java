@@ -0,0 +1,154 @@
+package graph.topo;
+
+import graph.common.TestGraphs;
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.topo.DagExecutor;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for parallel DAG task execution.
+ */
+public class DagExecutorTest {
+
+    @Test
+    public void testRunsEveryTaskAfterItsPredecessors() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Graph graph = TestGraphs.randomDag(2000, 8000, 1, 1);
+            int[] finishedAt = new int[2000];
+            AtomicInteger clock = new AtomicInteger();
+            Set<Integer> reported = ConcurrentHashMap.newKeySet();
+
+            DagExecutor.Result result = new DagExecutor(graph, pool, new MetricsImpl()).execute(
+                    v -> {
+                        for (Graph.Edge e : graph.getAdjacentEdges(v)) {
+                            assertEquals(0, finishedAt[e.to], "successor ran before its predecessor");
+                        }
+                        finishedAt[v] = clock.incrementAndGet();
+                    },
+                    (v, nanos) -> reported.add(v));
+
+            assertTrue(result.isSuccess());
+            assertEquals(-1, result.failedVertex);
+            assertEquals(2000, result.completionOrder.length);
+            assertEquals(2000, reported.size());
+
+            int[] position = new int[2000];
+            for (int i = 0; i < result.completionOrder.length; i++) {
+                position[result.completionOrder[i]] = i;
+            }
+            for (int u = 0; u < 2000; u++) {
+                for (Graph.Edge e : graph.getAdjacentEdges(u)) {
+                    assertTrue(position[u] < position[e.to]);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testIndependentTasksRunConcurrently() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // Four independent tasks that only finish once all four have started
+            Graph graph = new Graph(5, true, "edge");
+            for (int v = 0; v < 4; v++) {
+                graph.addEdge(v, 4, 1);
+            }
+            CountDownLatch started = new CountDownLatch(4);
+            DagExecutor.Result result = new DagExecutor(graph, pool, new MetricsImpl()).execute(v -> {
+                if (v < 4) {
+                    started.countDown();
+                    if (!started.await(10, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("tasks were serialized");
+                    }
+                }
+            });
+            assertTrue(result.isSuccess());
+            assertEquals(4, result.completionOrder[4]);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testStopsOnFirstFailure() {
+        // Chain 0 -> 1 -> 2 -> 3 with 1 failing
+        Graph graph = new Graph(4, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 1);
+        List<Integer> ran = Collections.synchronizedList(new ArrayList<>());
+
+        DagExecutor executor = new DagExecutor(graph, new MetricsImpl());
+        DagExecutor.Result result = executor.execute(v -> {
+            ran.add(v);
+            if (v == 1) {
+                throw new java.io.IOException("job 1 failed");
+            }
+        });
+
+        assertFalse(result.isSuccess());
+        assertEquals(1, result.failedVertex);
+        assertEquals("job 1 failed", result.failure.getMessage());
+        assertArrayEquals(new int[]{0}, result.completionOrder);
+        assertEquals(Arrays.asList(0, 1), ran);
+        assertEquals(2, executor.getMetrics().getCounter("tasks_not_run"));
+    }
+
+    @Test
+    public void testListenerFailureStopsRun() {
+        // Chain 0 -> 1 -> 2 -> 3 with the listener failing on 1
+        Graph graph = new Graph(4, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 1);
+        List<Integer> ran = Collections.synchronizedList(new ArrayList<>());
+
+        DagExecutor executor = new DagExecutor(graph, new MetricsImpl());
+        DagExecutor.Result result = executor.execute(ran::add, (v, elapsed) -> {
+            if (v == 1) {
+                throw new IllegalStateException("listener failed");
+            }
+        });
+
+        assertFalse(result.isSuccess());
+        assertEquals(1, result.failedVertex);
+        assertEquals("listener failed", result.failure.getMessage());
+        assertArrayEquals(new int[]{0}, result.completionOrder);
+        assertEquals(Arrays.asList(0, 1), ran);
+        assertEquals(2, executor.getMetrics().getCounter("tasks_not_run"));
+    }
+
+    @Test
+    public void testCycleBehindSourcesRejected() {
+        // 0 -> 1 -> 2 -> 1: vertex 0 is ready but 1 and 2 never are
+        Graph graph = new Graph(3, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 1, 1);
+        List<Integer> ran = Collections.synchronizedList(new ArrayList<>());
+        assertThrows(IllegalArgumentException.class,
+                () -> new DagExecutor(graph, new MetricsImpl()).execute(ran::add));
+        assertTrue(ran.isEmpty());
+    }
+
+    @Test
+    public void testCyclicGraphRejected() {
+        Graph graph = new Graph(2, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 0, 1);
+        assertThrows(IllegalArgumentException.class,
+                () -> new DagExecutor(graph, new MetricsImpl()).execute(v -> { }));
+    }
+}
@@ -0,0 +1,96 @@
+package graph.topo;
+
+import graph.common.TestGraphs;
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.topo.PriorityTopologicalSort;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+/**
+ * Unit tests for the priority-driven topological sort.
+ */
+public class PriorityTopologicalSortTest {
+
+    /**
+     * Reference: repeatedly pick the best ready vertex with a TreeSet.
+     */
+    private int[] reference(Graph graph, int[] key) {
+        int n = graph.getVertexCount();
+        int[] inDegree = new int[n];
+        for (int u = 0; u < n; u++) {
+            for (Graph.Edge e : graph.getAdjacentEdges(u)) {
+                inDegree[e.to]++;
+            }
+        }
+        TreeSet<Integer> ready = new TreeSet<>((a, b) -> key[a] != key[b] ? Integer.compare(key[a], key[b])
+                : Integer.compare(a, b));
+        for (int v = 0; v < n; v++) {
+            if (inDegree[v] == 0) {
+                ready.add(v);
+            }
+        }
+        int[] order = new int[n];
+        int k = 0;
+        while (!ready.isEmpty()) {
+            int u = ready.pollFirst();
+            order[k++] = u;
+            for (Graph.Edge e : graph.getAdjacentEdges(u)) {
+                if (--inDegree[e.to] == 0) {
+                    ready.add(e.to);
+                }
+            }
+        }
+        return order;
+    }
+
+    @Test
+    public void testLexicographicallySmallest() {
+        // 3 -> 1, 2 -> 0: the smallest order is [2, 0, 3, 1]
+        Graph graph = new Graph(4, true, "edge");
+        graph.addEdge(3, 1, 1);
+        graph.addEdge(2, 0, 1);
+
+        List<Integer> order = new PriorityTopologicalSort(graph, new MetricsImpl()).sort();
+        assertEquals(Arrays.asList(2, 0, 3, 1), order);
+    }
+
+    @Test
+    public void testHighestPriorityFirst() {
+        Graph graph = new Graph(4, true, "edge");
+        graph.addEdge(0, 3, 1);
+        int[] priority = {5, 1, 9, 100};
+
+        int[] order = new PriorityTopologicalSort(graph, new MetricsImpl())
+                .sortToArray(PriorityTopologicalSort.highestFirst(priority));
+        assertArrayEquals(new int[]{2, 0, 3, 1}, order);
+    }
+
+    @Test
+    public void testMatchesReferenceOnRandomDags() {
+        Random rand = new Random(5);
+        for (long seed = 0; seed < 5; seed++) {
+            Graph graph = TestGraphs.randomDag(500, 1500, 1, seed);
+            int[] key = new int[500];
+            for (int v = 0; v < key.length; v++) {
+                key[v] = rand.nextInt(20); // many ties, broken by id
+            }
+            int[] order = new PriorityTopologicalSort(graph, new MetricsImpl()).sortToArray(v -> key[v]);
+            assertArrayEquals(reference(graph, key), order);
+        }
+    }
+
+    @Test
+    public void testCycleReturnsNull() {
+        Graph graph = new Graph(3, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 1, 1);
+
+        PriorityTopologicalSort sort = new PriorityTopologicalSort(graph, new MetricsImpl());
+        assertNull(sort.sort());
+        assertEquals(1, sort.getMetrics().getCounter("pops"));
+    }
+}
@@ -7,6 +7,7 @@ import org.example.graph.topo.KahnTopologicalSort;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.lang.management.ManagementFactory;
 import java.util.List;
 
 /**
@@ -150,4 +151,72 @@ public class TopologicalSortTest {
         assertTrue(metrics.getCounter("edges_explored") >= 2);
         assertTrue(metrics.getElapsedTimeNanos() > 0);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testDFSCycleWitness() {
+        // Acyclic prefix 0 -> 1, then cycle 1 -> 2 -> 3 -> 1
+        Graph graph = new Graph(4, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 1, 1);
+
+        DFSTopologicalSort topoSort = new DFSTopologicalSort(graph, new MetricsImpl());
+        assertNull(topoSort.sortToArray());
+
+        List<Integer> cycle = topoSort.getCycle();
+        assertNotNull(cycle);
+        assertEquals(List.of(1, 2, 3, 1), cycle);
+    }
+
+    @Test
+    public void testDFSNoCycleWitnessOnDAG() {
+        Graph graph = new Graph(3, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(0, 2, 1);
+
+        DFSTopologicalSort topoSort = new DFSTopologicalSort(graph, new MetricsImpl());
+        assertNotNull(topoSort.sort());
+        assertNull(topoSort.getCycle());
+    }
+
+    @Test
+    public void testDFSLongChain() {
+        // Deep enough to overflow a recursive DFS
+        int n = 200_000;
+        Graph graph = new Graph(n, true, "edge");
+        for (int i = n - 1; i > 0; i--) {
+            graph.addEdge(i, i - 1, 1);
+        }
+
+        DFSTopologicalSort topoSort = new DFSTopologicalSort(graph, new MetricsImpl());
+        int[] order = topoSort.sortToArray();
+
+        assertNotNull(order);
+        assertEquals(n, order.length);
+        for (int i = 0; i < n; i++) {
+            assertEquals(n - 1 - i, order[i]);
+        }
+    }
+
+    @Test
+    public void testDFSLongChainAllocatesOnlyArrays() {
+        int n = 200_000;
+        Graph graph = new Graph(n, true, "edge");
+        for (int i = 0; i + 1 < n; i++) {
+            graph.addEdge(i, i + 1, 1);  // one DFS from vertex 0 goes n frames deep
+        }
+        new DFSTopologicalSort(graph, new MetricsImpl()).sortToArray();  // warm up
+        DFSTopologicalSort topoSort = new DFSTopologicalSort(graph, new MetricsImpl());
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        topoSort.sortToArray();
+        long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+        // state, stack, edgePos and order come to about 2.6 MB; no per-depth objects
+        assertTrue(allocated < 3_000_000, "allocated " + allocated + " bytes");
+    }
+}
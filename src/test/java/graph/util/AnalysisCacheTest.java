@@ -0,0 +1,145 @@
+package graph.util;
+
+import org.example.graph.common.Graph;
+import org.example.graph.common.MetricsImpl;
+import org.example.graph.util.AnalysisCache;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the persistent analysis cache.
+ */
+public class AnalysisCacheTest {
+
+    private Graph buildDag() {
+        Graph graph = new Graph(5, true, "edge");
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(0, 2, 2);
+        graph.addEdge(1, 3, 4);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 4, 2);
+        return graph;
+    }
+
+    @Test
+    public void testSecondRunHitsCache() throws IOException {
+        Path dir = Files.createTempDirectory("analysis-cache");
+        MetricsImpl metrics = new MetricsImpl();
+        AnalysisCache cache = new AnalysisCache(dir, metrics);
+
+        AnalysisCache.Analysis first = cache.getOrCompute(buildDag());
+        AnalysisCache.Analysis second = new AnalysisCache(dir, metrics).getOrCompute(buildDag());
+
+        assertFalse(first.fromCache);
+        assertTrue(second.fromCache);
+        assertEquals(1, metrics.getCounter("cache_misses"));
+        assertEquals(1, metrics.getCounter("cache_hits"));
+
+        assertArrayEquals(first.sccId, second.sccId);
+        assertArrayEquals(first.condensationEdges, second.condensationEdges);
+        assertArrayEquals(first.topologicalOrder, second.topologicalOrder);
+        assertArrayEquals(new int[]{0, 1, 3, 4}, second.criticalPath);
+        assertEquals(9, second.criticalPathLength);
+        assertEquals(5, second.buildCondensation("edge").getVertexCount());
+    }
+
+    @Test
+    public void testChangedGraphRecomputes() throws IOException {
+        Path dir = Files.createTempDirectory("analysis-cache");
+        MetricsImpl metrics = new MetricsImpl();
+        AnalysisCache cache = new AnalysisCache(dir, metrics);
+
+        cache.getOrCompute(buildDag());
+        Graph changed = buildDag();
+        changed.setEdgeWeight(2, 3, 10);
+        AnalysisCache.Analysis analysis = cache.getOrCompute(changed);
+
+        assertFalse(analysis.fromCache);
+        assertEquals(2, metrics.getCounter("cache_misses"));
+        assertArrayEquals(new int[]{0, 2, 3, 4}, analysis.criticalPath);
+        assertEquals(14, analysis.criticalPathLength);
+    }
+
+    @Test
+    public void testCyclicGraphAndCorruptFile() throws IOException {
+        Path dir = Files.createTempDirectory("analysis-cache");
+        Graph graph = new Graph(3, true, "edge");
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 0, 1);
+        graph.addEdge(1, 2, 1);
+
+        AnalysisCache cache = new AnalysisCache(dir, new MetricsImpl());
+        AnalysisCache.Analysis analysis = cache.getOrCompute(graph);
+        assertFalse(analysis.isDag());
+        assertNull(analysis.criticalPath);
+        assertEquals(2, analysis.componentCount);
+        assertEquals(analysis.sccId[0], analysis.sccId[1]);
+
+        // Truncate the sidecar: the cache must fall back to recomputing
+        try (Stream<Path> files = Files.list(dir)) {
+            Path file = files.findFirst().orElseThrow();
+            Files.write(file, new byte[]{1, 2, 3});
+        }
+        AnalysisCache.Analysis again = cache.getOrCompute(graph);
+        assertFalse(again.fromCache);
+        assertTrue(cache.getOrCompute(graph).fromCache);
+    }
+
+    @Test
+    public void testContentHashIgnoresObjectIdentity() {
+        assertArrayEquals(AnalysisCache.contentHash(buildDag()), AnalysisCache.contentHash(buildDag()));
+        Graph other = buildDag();
+        other.addEdge(1, 4, 1);
+        assertFalse(Arrays.equals(AnalysisCache.contentHash(buildDag()), AnalysisCache.contentHash(other)));
+    }
+
+    private Path onlyFile(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.findFirst().orElseThrow();
+        }
+    }
+
+    @Test
+    public void testHugeArrayLengthIsAMiss() throws IOException {
+        Path dir = Files.createTempDirectory("analysis-cache");
+        MetricsImpl metrics = new MetricsImpl();
+        AnalysisCache cache = new AnalysisCache(dir, metrics);
+        cache.getOrCompute(buildDag());
+
+        // Corrupt the length of the first array (after magic, version, hash and component count)
+        Path file = onlyFile(dir);
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt(8 + 32 + 4, Integer.MAX_VALUE - 8);
+        Files.write(file, bytes);
+
+        AnalysisCache.Analysis again = cache.getOrCompute(buildDag());
+        assertFalse(again.fromCache);
+        assertEquals(2, metrics.getCounter("cache_misses"));
+        assertTrue(cache.getOrCompute(buildDag()).fromCache);
+    }
+
+    @Test
+    public void testFailedWriteLeavesNoTempFile() throws IOException {
+        Path dir = Files.createTempDirectory("analysis-cache");
+        Graph graph = buildDag();
+        StringBuilder hex = new StringBuilder();
+        for (byte b : AnalysisCache.contentHash(graph)) {
+            hex.append(String.format("%02x", b));
+        }
+        // A non-empty directory where the sidecar should go makes the final move fail
+        Path blocker = Files.createDirectory(dir.resolve(hex + ".gac"));
+        Files.createFile(blocker.resolve("keep"));
+
+        assertThrows(IOException.class, () -> new AnalysisCache(dir, new MetricsImpl()).getOrCompute(graph));
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(1, files.count());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package graph.util;
+
+import org.example.graph.util.BenchmarkRunner;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Tests for the benchmark runner and its regression comparison.
+ */
+public class BenchmarkRunnerTest {
+
+    @Test
+    public void testSweepCoversEveryCase() {
+        BenchmarkRunner runner = new BenchmarkRunner(1, 3, 7);
+        List<BenchmarkRunner.Result> results = runner.run(new int[]{50, 200}, new int[]{2, 4});
+
+        assertEquals(2 * 2 * BenchmarkRunner.ALGORITHMS.length, results.size());
+        for (BenchmarkRunner.Result r : results) {
+            assertEquals(3, r.trials);
+            assertTrue(r.medianNanos > 0);
+            assertTrue(r.medianNanos <= r.p90Nanos && r.p90Nanos <= r.p99Nanos);
+            assertTrue(r.edgesPerSecond > 0);
+        }
+    }
+
+    @Test
+    public void testResultsFileRoundTrip() throws IOException {
+        List<BenchmarkRunner.Result> results = new BenchmarkRunner(0, 2, 1).run(new int[]{100}, new int[]{3});
+        Path file = Files.createTempFile("bench", ".tsv");
+        BenchmarkRunner.write(results, file);
+        List<BenchmarkRunner.Result> read = BenchmarkRunner.read(file);
+        Files.deleteIfExists(file);
+
+        assertEquals(results.size(), read.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(results.get(i).toLine(), read.get(i).toLine());
+        }
+    }
+
+    @Test
+    public void testCompareFlagsRegressionsBeyondThreshold() {
+        List<BenchmarkRunner.Result> baseline = Arrays.asList(
+                new BenchmarkRunner.Result("kahn", 100, 300, 5, 1000, 1200, 1300, 3e8, 0),
+                new BenchmarkRunner.Result("tarjan", 100, 300, 5, 2000, 2200, 2300, 1.5e8, 0));
+        List<BenchmarkRunner.Result> candidate = Arrays.asList(
+                new BenchmarkRunner.Result("kahn", 100, 300, 5, 1050, 1200, 1300, 2.9e8, 0),
+                new BenchmarkRunner.Result("tarjan", 100, 300, 5, 2600, 2700, 2800, 1.2e8, 0),
+                new BenchmarkRunner.Result("dfs-topo", 100, 300, 5, 9999, 9999, 9999, 1e7, 0));
+
+        List<String> regressions = BenchmarkRunner.compare(baseline, candidate, 0.10);
+        assertEquals(1, regressions.size());
+        assertTrue(regressions.get(0).startsWith("tarjan/100/300"));
+        assertTrue(BenchmarkRunner.compare(baseline, candidate, 0.50).isEmpty());
+    }
+
+    @Test
+    public void testLargeDefaultSizeCompletes() {
+        // The largest default size; recursive Tarjan overflowed the stack here
+        List<BenchmarkRunner.Result> results = new BenchmarkRunner(0, 1, 42).run(new int[]{100_000}, new int[]{2});
+        assertEquals(BenchmarkRunner.ALGORITHMS.length, results.size());
+        for (BenchmarkRunner.Result r : results) {
+            assertEquals(100_000, r.vertices);
+            assertTrue(r.medianNanos > 0);
+        }
+    }
+
+    @Test
+    public void testRelabeledCasesMatchOriginalSize() {
+        List<BenchmarkRunner.Result> results = new BenchmarkRunner(0, 1, 3).run(new int[]{500}, new int[]{4});
+        Map<String, BenchmarkRunner.Result> byName = new HashMap<>();
+        for (BenchmarkRunner.Result r : results) {
+            byName.put(r.algorithm, r);
+        }
+        for (String base : new String[]{"tarjan", "dag-shortest"}) {
+            BenchmarkRunner.Result original = byName.get(base);
+            BenchmarkRunner.Result relabeled = byName.get(base + "-relabeled");
+            assertNotNull(relabeled);
+            assertEquals(original.vertices, relabeled.vertices);
+            assertEquals(original.edges, relabeled.edges);
+        }
+    }
+}
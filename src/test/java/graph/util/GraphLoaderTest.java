@@ -0,0 +1,193 @@
+package graph.util;
+
+import org.example.graph.common.Graph;
+import org.example.graph.util.GraphLoader;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Tests for sequential and parallel graph loading.
+ */
+public class GraphLoaderTest {
+
+    private void assertSameGraph(GraphLoader.GraphData expected, GraphLoader.GraphData actual) {
+        Graph a = expected.getGraph();
+        Graph b = actual.getGraph();
+        assertEquals(expected.getSource(), actual.getSource());
+        assertEquals(a.getVertexCount(), b.getVertexCount());
+        assertEquals(a.isDirected(), b.isDirected());
+        assertEquals(a.getWeightModel(), b.getWeightModel());
+        for (int u = 0; u < a.getVertexCount(); u++) {
+            assertEquals(a.getAdjacentEdges(u).toString(), b.getAdjacentEdges(u).toString());
+        }
+    }
+
+    @Test
+    public void testParallelMatchesSequentialOnDatasets() throws IOException {
+        File[] files = new File("data").listFiles((dir, name) -> name.endsWith(".json"));
+        assertNotNull(files);
+        for (File file : files) {
+            assertSameGraph(GraphLoader.loadFromJson(file.getPath()),
+                    GraphLoader.loadFromJsonParallel(file.getPath(), 4));
+        }
+    }
+
+    @Test
+    public void testParallelLargeFile() throws IOException {
+        Path file = Files.createTempFile("large", ".json");
+        Random rand = new Random(3);
+        int n = 5000;
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.println("# generated for parallel loading test");
+            out.println("{");
+            out.println("  \"directed\": true,");
+            out.println("  \"n\": " + n + ",");
+            out.println("  \"edges\": [");
+            for (int i = 0; i < 150_000; i++) {
+                // Vary key order and spacing, sometimes omit the weight
+                int u = rand.nextInt(n);
+                int v = rand.nextInt(n);
+                String sep = i == 149_999 ? "" : ",";
+                if (i % 3 == 0) {
+                    out.println("    {\"v\": " + v + ", \"u\": " + u + "}" + sep);
+                } else {
+                    out.println("    { \"u\" :" + u + ",\"v\":" + v + ", \"w\": " + (rand.nextInt(21) - 10) + " }" + sep);
+                }
+            }
+            out.println("  ],");
+            out.println("  \"source\": 7,");
+            out.println("  \"weight_model\": \"edge\"");
+            out.println("}");
+        }
+
+        try {
+            GraphLoader.GraphData expected = GraphLoader.loadFromJson(file.toString());
+            for (int threads : new int[]{1, 3, 8}) {
+                GraphLoader.GraphData actual = GraphLoader.loadFromJsonParallel(file.toString(), threads);
+                assertEquals(150_000, actual.getGraph().getEdgeCount());
+                assertSameGraph(expected, actual);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testParallelRejectsMissingEdges() throws IOException {
+        Path file = Files.createTempFile("broken", ".json");
+        Files.writeString(file, "{\"directed\": true, \"n\": 2}");
+        try {
+            assertThrows(IOException.class, () -> GraphLoader.loadFromJsonParallel(file.toString(), 2));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private Path writeTemp(String json) throws IOException {
+        Path file = Files.createTempFile("graph", ".json");
+        Files.writeString(file, json);
+        return file;
+    }
+
+    @Test
+    public void testParallelHandlesTrailingArraysAndBracketsInStrings() throws IOException {
+        Path file = writeTemp("{\"directed\": true, \"n\": 3,\n"
+                + " \"edges\": [{\"u\": 0, \"v\": 1, \"w\": 4, \"label\": \"a]b}c\"},\n"
+                + "            {\"label\": \"\\\"]\", \"u\": 1, \"v\": 2}],\n"
+                + " \"name\": \"x]\", \"tags\": [\"late\", [1, 2]], \"source\": 1}");
+        try {
+            GraphLoader.GraphData expected = GraphLoader.loadFromJson(file.toString());
+            GraphLoader.GraphData actual = GraphLoader.loadFromJsonParallel(file.toString(), 2);
+            assertEquals(2, actual.getGraph().getEdgeCount());
+            assertEquals(1, actual.getSource());
+            assertSameGraph(expected, actual);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testParallelFindsOnlyTopLevelEdgesKey() throws IOException {
+        // "edges" as a value, as a nested key, and after a string ending in an escaped backslash
+        Path file = writeTemp("{\"name\": \"edges\", \"path\": \"C:\\\\\", \"tags\": [\"edges\"],\n"
+                + " \"meta\": {\"edges\": [{\"u\": 1, \"v\": 1}]},\n"
+                + " \"directed\": true, \"n\": 3, \"edges\" : [{\"u\": 0, \"v\": 2, \"w\": 5}], \"source\": 2}");
+        try {
+            GraphLoader.GraphData expected = GraphLoader.loadFromJson(file.toString());
+            GraphLoader.GraphData actual = GraphLoader.loadFromJsonParallel(file.toString(), 2);
+            assertEquals(1, actual.getGraph().getEdgeCount());
+            assertEquals(2, actual.getGraph().getAdjacentEdges(0).get(0).to);
+            assertEquals(2, actual.getSource());
+            assertSameGraph(expected, actual);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testParallelRejectsNonArrayEdges() throws IOException {
+        Path file = writeTemp("{\"directed\": true, \"n\": 2, \"edges\": 3, \"more\": [{\"u\": 0, \"v\": 1}]}");
+        try {
+            assertThrows(IOException.class, () -> GraphLoader.loadFromJsonParallel(file.toString(), 2));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testParallelChunksIgnoreBracesInStrings() throws IOException {
+        // Large enough for several chunks; every edge carries a string full of braces
+        Path file = Files.createTempFile("braces", ".json");
+        Random rand = new Random(5);
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.println("{\"directed\": true, \"n\": 1000, \"edges\": [");
+            for (int i = 0; i < 60_000; i++) {
+                String sep = i == 59_999 ? "" : ",";
+                out.println("  {\"note\": \"} ,{\\\"u\\\": 9 ] [\", \"u\": " + rand.nextInt(1000)
+                        + ", \"v\": " + rand.nextInt(1000) + ", \"w\": " + rand.nextInt(9) + "}" + sep);
+            }
+            out.println("], \"extra\": [[]]}");
+        }
+        try {
+            GraphLoader.GraphData expected = GraphLoader.loadFromJson(file.toString());
+            GraphLoader.GraphData actual = GraphLoader.loadFromJsonParallel(file.toString(), 4);
+            assertEquals(60_000, actual.getGraph().getEdgeCount());
+            assertSameGraph(expected, actual);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testBothLoadersRejectOverflowingInts() throws IOException {
+        for (String value : new String[]{"3000000000", "-2147483649", "99999999999999999999", "1.5"}) {
+            Path file = writeTemp("{\"directed\": true, \"n\": 2, \"edges\": [{\"u\": 0, \"v\": 1, \"w\": "
+                    + value + "}]}");
+            try {
+                assertThrows(IOException.class, () -> GraphLoader.loadFromJson(file.toString()), value);
+                assertThrows(IOException.class, () -> GraphLoader.loadFromJsonParallel(file.toString(), 2), value);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        // Extreme but valid values, and integral non-plain forms, still load the same way
+        Path file = writeTemp("{\"directed\": true, \"n\": 2, \"edges\": [{\"u\": 0, \"v\": 1, \"w\": -2147483648},"
+                + " {\"u\": 1.0, \"v\": 0, \"w\": 2e3}]}");
+        try {
+            GraphLoader.GraphData actual = GraphLoader.loadFromJsonParallel(file.toString(), 2);
+            assertSameGraph(GraphLoader.loadFromJson(file.toString()), actual);
+            assertEquals(Integer.MIN_VALUE, actual.getGraph().getAdjacentEdges(0).get(0).weight);
+            assertEquals(2000, actual.getGraph().getAdjacentEdges(1).get(0).weight);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}